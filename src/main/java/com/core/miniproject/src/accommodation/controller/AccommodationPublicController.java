@@ -2,6 +2,8 @@ package com.core.miniproject.src.accommodation.controller;
 
 import com.core.miniproject.src.accommodation.domain.dto.AccommodationAllResponse;
 import com.core.miniproject.src.accommodation.domain.dto.AccommodationResponse;
+import com.core.miniproject.src.accommodation.domain.dto.AccommodationScrollResponse;
+import com.core.miniproject.src.accommodation.domain.dto.AccommodationSearchResponse;
 import com.core.miniproject.src.accommodation.service.AccommodationService;
 import com.core.miniproject.src.common.response.BaseResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -9,7 +11,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -31,6 +36,17 @@ public class AccommodationPublicController {
         return BaseResponse.response(allAccommodation);
     }
 
+    // 전체 숙소 스트리밍 조회 - 응답을 모두 만든 뒤 직렬화하지 않고 숙소 단위로 바로 출력
+    @GetMapping(value = "/v1/accommodation/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportAccommodation() {
+
+        StreamingResponseBody body = accommodationService::exportAllAccommodation;
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @GetMapping("/v1/accommodation")
     public BaseResponse<AccommodationAllResponse> findAccommodation(
             @RequestParam(name = "checkIn", required = false) LocalDate checkIn,
@@ -39,16 +55,53 @@ public class AccommodationPublicController {
             @RequestParam(name = "accommodation_type", required = false) String accommodationType,
             @RequestParam(name = "personal", required = false) Integer personal,
             @RequestParam(name = "page", defaultValue = "0") int page,
-            @RequestParam(name = "size", defaultValue = "4") int size) {
+            @RequestParam(name = "size", defaultValue = "4") int size,
+            @RequestParam(name = "image_size", defaultValue = "original") String imageSize) {
 
         Pageable pageable = PageRequest.of(page, size);
 
-        AccommodationAllResponse allAccommodation =
-                accommodationService.findAccommodation(checkIn, checkInOut, locationType, accommodationType, personal, pageable);
+        AccommodationAllResponse allAccommodation = accommodationService.findAccommodation(
+                checkIn, checkInOut, locationType, accommodationType, personal, pageable, imageSize);
 
         return BaseResponse.response(allAccommodation);
     }
 
+    @GetMapping("/v1/accommodation/scroll")
+    public BaseResponse<AccommodationScrollResponse> findAccommodationByCursor(
+            @RequestParam(name = "checkIn", required = false) LocalDate checkIn,
+            @RequestParam(name = "checkOut", required = false) LocalDate checkInOut,
+            @RequestParam(name = "location_type", required = false) String locationType,
+            @RequestParam(name = "accommodation_type", required = false) String accommodationType,
+            @RequestParam(name = "personal", required = false) Integer personal,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "4") int size,
+            @RequestParam(name = "with_total", defaultValue = "false") boolean withTotal,
+            @RequestParam(name = "image_size", defaultValue = "original") String imageSize) {
+
+        AccommodationScrollResponse response = accommodationService.findAccommodationByCursor(
+                checkIn, checkInOut, locationType, accommodationType, personal, cursor, size, withTotal, imageSize);
+
+        return BaseResponse.response(response);
+    }
+
+    // 숙소명, 소개, 주소 검색 - 관련도 순 숙소 id 반환 (지역, 종류, 기간 조건은 선택)
+    @GetMapping("/v1/accommodation/search")
+    public BaseResponse<AccommodationSearchResponse> searchAccommodation(
+            @RequestParam(name = "keyword") String keyword,
+            @RequestParam(name = "checkIn", required = false) LocalDate checkIn,
+            @RequestParam(name = "checkOut", required = false) LocalDate checkOut,
+            @RequestParam(name = "location_type", required = false) String locationType,
+            @RequestParam(name = "accommodation_type", required = false) String accommodationType,
+            @RequestParam(name = "personal", required = false) Integer personal,
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+
+        AccommodationSearchResponse response = accommodationService.searchAccommodation(
+                keyword, checkIn, checkOut, locationType, accommodationType, personal, PageRequest.of(page, size));
+
+        return BaseResponse.response(response);
+    }
+
     @GetMapping("/v1/accommodation/{accommodation_id}/detail")
     public BaseResponse<AccommodationResponse> getAccommodationDetail(
             @RequestParam(name = "checkIn", required = false, defaultValue = "#{T(java.time.LocalDate).now()}") LocalDate checkIn,
@@ -46,4 +46,20 @@ public class AccommodationAllDto {
                         .collect(Collectors.toList()))
                 .build();
     }
+
+    public static AccommodationAllDto toClient(AccommodationSummary summary, List<ImageResponse> images, List<RoomResponse> rooms){
+        return AccommodationAllDto.builder()
+                .id(summary.id())
+                .accommodationName(summary.accommodationName())
+                .accommodationType(summary.accommodationType().getType())
+                .introduction(summary.introduction())
+                .locationType(summary.locationType().getType())
+                .rate(summary.rate())
+                .discount(summary.discountRate())
+                .address(summary.address())
+                .price(summary.minPrice())
+                .accommodationImage(images)
+                .room(rooms)
+                .build();
+    }
 }
@@ -0,0 +1,50 @@
+package com.core.miniproject.src.accommodation.domain.dto;
+
+import com.core.miniproject.src.common.exception.BaseException;
+import com.core.miniproject.src.common.response.BaseResponseStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 숙소 무한 스크롤 조회용 커서 - 마지막으로 조회한 숙소의 (최저가, id)
+ * 클라이언트에는 내부 구조를 알 수 없도록 Base64 문자열로 전달
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class AccommodationCursor {
+
+    private static final AccommodationCursor FIRST = new AccommodationCursor(-1, 0L);
+
+    private int minPrice;
+    private long id;
+
+    public static AccommodationCursor of(AccommodationAllDto accommodation) {
+        return new AccommodationCursor(accommodation.getPrice(), accommodation.getId());
+    }
+
+    public String encode() {
+        String raw = minPrice + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서가 없으면 첫 페이지
+    public static AccommodationCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+
+            return new AccommodationCursor(Integer.parseInt(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new BaseException(BaseResponseStatus.INVALID_CURSOR);
+        }
+    }
+}
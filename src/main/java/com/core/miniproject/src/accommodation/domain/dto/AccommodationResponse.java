@@ -46,4 +46,20 @@ public class AccommodationResponse {
                         .collect(Collectors.toList()))
                 .build();
     }
+
+    public static AccommodationResponse toClient(AccommodationSummary summary, List<ImageResponse> images, List<RoomResponse> rooms){
+        return AccommodationResponse.builder()
+                .id(summary.id())
+                .accommodationName(summary.accommodationName())
+                .accommodationType(summary.accommodationType().getType())
+                .introduction(summary.introduction())
+                .locationType(summary.locationType().getType())
+                .rate(summary.rate())
+                .discount(summary.discountRate())
+                .address(summary.address())
+                .price(summary.minPrice())
+                .accommodationImage(images)
+                .room(rooms)
+                .build();
+    }
 }
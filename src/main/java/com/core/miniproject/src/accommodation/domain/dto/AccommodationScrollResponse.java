@@ -0,0 +1,29 @@
+package com.core.miniproject.src.accommodation.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccommodationScrollResponse {
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer accommodationCount; // with_total 요청 시에만 포함
+    private boolean hasNext;
+    private String nextCursor;
+    private List<AccommodationAllDto> result;
+
+    public static AccommodationScrollResponse toClient(List<AccommodationAllDto> dto, String nextCursor, Integer count) {
+        return AccommodationScrollResponse.builder()
+                .accommodationCount(count)
+                .hasNext(nextCursor != null)
+                .nextCursor(nextCursor)
+                .result(dto)
+                .build();
+    }
+}
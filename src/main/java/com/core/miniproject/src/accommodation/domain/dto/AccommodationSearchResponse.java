@@ -0,0 +1,23 @@
+package com.core.miniproject.src.accommodation.domain.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccommodationSearchResponse {
+
+    private Integer accommodationCount;
+    private List<Long> accommodationIds; // 검색 관련도 순
+
+    public static AccommodationSearchResponse toClient(List<Long> ids, Integer count) {
+        return AccommodationSearchResponse.builder()
+                .accommodationCount(count)
+                .accommodationIds(ids)
+                .build();
+    }
+}
@@ -0,0 +1,26 @@
+package com.core.miniproject.src.accommodation.domain.dto;
+
+import com.core.miniproject.src.accommodation.domain.entity.AccommodationType;
+import com.core.miniproject.src.location.domain.entity.LocationType;
+
+/**
+ * 숙소 목록 응답에 필요한 컬럼만 조회하는 projection
+ * 별점 평균과 최저가는 DB에서 계산된 값을 그대로 사용
+ */
+public record AccommodationSummary(
+        Long id,
+        String accommodationName,
+        AccommodationType accommodationType,
+        String introduction,
+        LocationType locationType,
+        Double averageRate,
+        Double discountRate,
+        String address,
+        Integer minPrice
+) {
+
+    // 엔티티(Accommodation.getAverageRate)와 동일하게 소수점 둘째 자리 올림
+    public Double rate() {
+        return Math.ceil(averageRate * 100.0) / 100.0;
+    }
+}
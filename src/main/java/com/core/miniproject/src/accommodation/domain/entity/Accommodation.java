@@ -21,6 +21,7 @@ import java.util.Set;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
 @SQLDelete(sql="update Accommodation set is_deleted=true where accommodation_id=?")
+@Table(indexes = @Index(name = "IX_accommodation_search", columnList = "location_id, accommodation_type, is_deleted, min_price"))
 public class Accommodation {
 
     @Id
@@ -56,6 +57,16 @@ public class Accommodation {
     @OneToMany(mappedBy = "accommodation", cascade = CascadeType.REMOVE)
     private Set<Rate> rates = new HashSet<>();
 
+    // 별점 평균 계산을 위해 별점 생성 시 함께 갱신되는 합계 & 개수
+    // 컬럼 추가 시 기존 행이 NULL 이 되지 않도록 기본값 지정 (실제 값은 기동 시 RateAggregateScheduler 의 재계산으로 보정)
+    @Column(name = "rate_sum", nullable = false, columnDefinition = "double default 0")
+    @Builder.Default
+    private double rateSum = 0.0;
+
+    @Column(name = "rate_count", nullable = false, columnDefinition = "bigint default 0")
+    @Builder.Default
+    private long rateCount = 0;
+
     @ManyToOne
     @JoinColumn(name = "discount_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Discount discount;
@@ -63,6 +74,10 @@ public class Accommodation {
     @Column(name = "address")
     private String address;
 
+    // 객실 최저가 - 객실 생성 & 수정 & 삭제 시 갱신(가격순 정렬 & 페이징용)
+    @Column(name = "min_price")
+    private Integer minPrice;
+
     @Column(name="is_deleted")
     @Builder.Default
     private boolean isDeleted=false;
@@ -76,31 +91,15 @@ public class Accommodation {
 //    }
 
     public Double getAverageRate() {
-        if (rates == null || rates.isEmpty()) {
+        if (rateCount == 0) {
             return 0.0;
         }
 
-        double sum = 0.0;
-        for (Rate rate : rates) {
-            sum += rate.getRate();
-        }
-
-        return Math.ceil(sum / rates.size() * 100.0) / 100.0;
+        return Math.ceil(rateSum / rateCount * 100.0) / 100.0;
     }
 
     public Integer getMinPrice() {
-        if (roomId == null || roomId.isEmpty()) { // 객실이 없기 때문에 표시될 minPrice가 정해지지 않음
-            return 0;
-        }
-
-        Integer minPrice = Integer.MAX_VALUE;
-
-        for(Room room : roomId) {
-            if(room.getPrice() < minPrice) {
-                minPrice = room.getPrice();
-            }
-        }
-        return minPrice;
+        return minPrice != null ? minPrice : 0; // 객실이 없는 경우 표시될 minPrice가 정해지지 않음
     }
 
     public void update(AccommodationRequest request, Location location, Discount discount ,List<AccommodationImage> images){
@@ -1,18 +1,24 @@
 package com.core.miniproject.src.accommodation.repository;
 
+import com.core.miniproject.src.accommodation.domain.dto.AccommodationSummary;
 import com.core.miniproject.src.accommodation.domain.entity.Accommodation;
 import com.core.miniproject.src.accommodation.domain.entity.AccommodationType;
 import com.core.miniproject.src.location.domain.entity.LocationType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface AccommodationRepository extends JpaRepository<Accommodation, Long> {
@@ -23,71 +29,131 @@ public interface AccommodationRepository extends JpaRepository<Accommodation, Lo
     @Override
     List<Accommodation> findAll();
 
+    // 숙소 목록 projection - 별점 평균 & 최저가는 저장된 집계 컬럼으로 DB에서 계산
+    @Query("""
+            SELECT new com.core.miniproject.src.accommodation.domain.dto.AccommodationSummary(
+                a.id, a.accommodationName, a.accommodationType, a.introduction, l.locationName,
+                CASE WHEN a.rateCount = 0 THEN 0.0 ELSE a.rateSum / a.rateCount END,
+                d.discountRate, a.address, COALESCE(a.minPrice, 0))
+            FROM Accommodation a
+            JOIN a.location l
+            JOIN a.discount d
+            WHERE a.id IN :ids
+            """)
+    List<AccommodationSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+            SELECT new com.core.miniproject.src.accommodation.domain.dto.AccommodationSummary(
+                a.id, a.accommodationName, a.accommodationType, a.introduction, l.locationName,
+                CASE WHEN a.rateCount = 0 THEN 0.0 ELSE a.rateSum / a.rateCount END,
+                d.discountRate, a.address, COALESCE(a.minPrice, 0))
+            FROM Accommodation a
+            JOIN a.location l
+            JOIN a.discount d
+            WHERE a.isDeleted=false
+            ORDER BY a.id ASC
+            """)
+    List<AccommodationSummary> findAllSummaries();
+
+    // 전체 숙소 내보내기용 - 결과를 한 번에 적재하지 않고 fetch size 단위로 읽어오는 스트림 (MySQL은 useCursorFetch=true 필요)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            SELECT new com.core.miniproject.src.accommodation.domain.dto.AccommodationSummary(
+                a.id, a.accommodationName, a.accommodationType, a.introduction, l.locationName,
+                CASE WHEN a.rateCount = 0 THEN 0.0 ELSE a.rateSum / a.rateCount END,
+                d.discountRate, a.address, COALESCE(a.minPrice, 0))
+            FROM Accommodation a
+            JOIN a.location l
+            JOIN a.discount d
+            WHERE a.isDeleted=false
+            ORDER BY a.id ASC
+            """)
+    Stream<AccommodationSummary> streamAllSummaries();
+
+    // 1단계 : 조건에 맞는 숙소 id만 DB에서 페이징(저장된 객실 최저가 순)
     @Query(value = """
-            SELECT DISTINCT a.*
+            SELECT a.id
             FROM Accommodation a
-            LEFT JOIN Room r ON a.accommodation_id = r.accommodation_id
-            LEFT JOIN Rate rate ON a.accommodation_id = rate.accommodation_id
-            LEFT JOIN AccommodationImage ai ON a.accommodation_id = ai.accommodation_id
-            left join location l on a.location_id = l.location_id
-            LEFT JOIN Discount d ON a.discount_id = d.discount_id 
-            LEFT JOIN Reservation res ON r.room_id = res.room_id
-            WHERE a.is_deleted = false
-            AND (res.room_id IS NULL OR res.is_visited <> 'VISIT_DATE')
-            AND (res.room_id IS NULL OR res.is_visited <> 'VISITED')
-            AND (res.room_id IS NULL OR ((res.check_in >= :checkIn AND res.check_out <= :checkOut) OR (res.check_in < :checkIn AND res.check_out > :checkOut)))
-            AND (res.room_id IS NULL OR (res.check_out <= :checkIn OR res.check_in >= :checkOut))
-            AND (res.room_id IS NULL OR (res.check_out <= :checkOut OR res.check_in >= :checkOut));
-            """, nativeQuery = true)
-    List<Accommodation> getAllAccommodation(@Param("checkIn") LocalDate checkIn,
-                                            @Param("checkOut") LocalDate checkInOut);
+            WHERE a.isDeleted=false
+            AND a.accommodationType = :accommodationType
+            AND a.location.locationName = :locationType
+            AND EXISTS (
+                SELECT r.id
+                FROM Room r
+                WHERE r.accommodationId = a
+                AND r.isDeleted=false
+                AND r.fixedMember >= :personal
+                AND r.id NOT IN :bookedRoomIds
+            )
+            ORDER BY a.minPrice ASC, a.id ASC
+            """)
+    List<Long> findAccommodationIds(@Param("bookedRoomIds") Collection<Long> bookedRoomIds,
+                                    @Param("locationType") LocationType locationType,
+                                    @Param("accommodationType") AccommodationType accommodationType,
+                                    @Param("personal") Integer personal,
+                                    Pageable pageable);
 
+    // 1단계(커서) : 마지막으로 조회한 (최저가, id) 이후의 숙소 id만 조회 - OFFSET 없이 인덱스 탐색
     @Query(value = """
-            SELECT DISTINCT a
+            SELECT a.id
             FROM Accommodation a
-            LEFT JOIN FETCH a.roomId roomId
-            LEFT JOIN FETCH a.rates
-            LEFT JOIN FETCH a.images
-            LEFT JOIN FETCH a.discount
-            LEFT JOIN roomId.reservations r
             WHERE a.isDeleted=false
             AND a.accommodationType = :accommodationType
             AND a.location.locationName = :locationType
-            AND roomId.fixedMember >= :personal
-            AND (r is null OR r.isVisited <> 'VISIT_DATE')
-            AND (r is null OR r.isVisited <> 'VISITED')
-            AND (r is null OR not ((r.checkIn >= :checkIn and r.checkOut <= :checkOut) or (r.checkIn < :checkIn and r.checkOut > :checkOut)))
-            AND (r is null OR (r.checkOut <= :checkIn OR r.checkIn >= :checkOut))
-            AND (r is null OR (r.checkOut <= :checkOut OR r.checkIn >= :checkOut))
-            ORDER BY roomId.price ASC
+            AND (a.minPrice > :lastPrice OR (a.minPrice = :lastPrice AND a.id > :lastId))
+            AND EXISTS (
+                SELECT r.id
+                FROM Room r
+                WHERE r.accommodationId = a
+                AND r.isDeleted=false
+                AND r.fixedMember >= :personal
+                AND r.id NOT IN :bookedRoomIds
+            )
+            ORDER BY a.minPrice ASC, a.id ASC
+            """)
+    List<Long> findAccommodationIdsAfter(@Param("bookedRoomIds") Collection<Long> bookedRoomIds,
+                                         @Param("locationType") LocationType locationType,
+                                         @Param("accommodationType") AccommodationType accommodationType,
+                                         @Param("personal") Integer personal,
+                                         @Param("lastPrice") Integer lastPrice,
+                                         @Param("lastId") Long lastId,
+                                         Pageable pageable);
+
+    // 검색 결과 중 해당 기간 & 인원으로 예약 가능한 객실이 있는 숙소 id
+    @Query("""
+            SELECT a.id
+            FROM Accommodation a
+            WHERE a.id IN :ids
+            AND a.isDeleted=false
+            AND EXISTS (
+                SELECT r.id
+                FROM Room r
+                WHERE r.accommodationId = a
+                AND r.isDeleted=false
+                AND r.fixedMember >= :personal
+                AND r.id NOT IN :bookedRoomIds
+            )
             """)
-    List<Accommodation> findAllAccommodation(@Param("checkIn") LocalDate checkIn,
-                                             @Param("checkOut") LocalDate checkInOut,
-                                             @Param("locationType") LocationType locationType,
-                                             @Param("accommodationType") AccommodationType accommodationType,
-                                             @Param("personal") Integer personal,
-                                             Pageable pageable);
+    List<Long> findAvailableAccommodationIds(@Param("ids") Collection<Long> ids,
+                                             @Param("bookedRoomIds") Collection<Long> bookedRoomIds,
+                                             @Param("personal") Integer personal);
 
     @Query(value = """
-            SELECT COUNT (DISTINCT a)
+            SELECT COUNT (a)
             FROM Accommodation a
-            LEFT JOIN a.roomId roomId
-            LEFT JOIN a.rates
-            LEFT JOIN a.images
-            LEFT JOIN a.discount
-            LEFT JOIN roomId.reservations r
             WHERE a.isDeleted=false
             AND a.accommodationType = :accommodationType
             AND a.location.locationName = :locationType
-            AND roomId.fixedMember >= :personal
-            AND (r is null OR r.isVisited <> 'VISIT_DATE')
-            AND (r is null OR r.isVisited <> 'VISITED')
-            AND (r is null OR not ((r.checkIn >= :checkIn and r.checkOut <= :checkOut) or (r.checkIn < :checkIn and r.checkOut > :checkOut)))
-            AND (r is null OR (r.checkOut <= :checkIn OR r.checkIn >= :checkOut))
-            AND (r is null OR (r.checkOut <= :checkOut OR r.checkIn >= :checkOut))
+            AND EXISTS (
+                SELECT r.id
+                FROM Room r
+                WHERE r.accommodationId = a
+                AND r.isDeleted=false
+                AND r.fixedMember >= :personal
+                AND r.id NOT IN :bookedRoomIds
+            )
             """)
-    int getCountAccommodation(@Param("checkIn") LocalDate checkIn,
-                              @Param("checkOut") LocalDate checkInOut,
+    int getCountAccommodation(@Param("bookedRoomIds") Collection<Long> bookedRoomIds,
                               @Param("locationType") LocationType locationType,
                               @Param("accommodationType") AccommodationType accommodationType,
                               @Param("personal") Integer personal);
@@ -96,7 +162,6 @@ public interface AccommodationRepository extends JpaRepository<Accommodation, Lo
             select DISTINCT a
             from Accommodation a
             LEFT JOIN FETCH a.roomId
-            LEFT JOIN FETCH a.rates
             LEFT JOIN FETCH a.images
             LEFT JOIN FETCH a.discount
             where a.id = ?1 and a.isDeleted=false
@@ -107,31 +172,55 @@ public interface AccommodationRepository extends JpaRepository<Accommodation, Lo
             SELECT DISTINCT a
             FROM Accommodation a
             LEFT JOIN FETCH a.roomId roomId
-            LEFT JOIN FETCH a.rates
             LEFT JOIN FETCH a.images
             LEFT JOIN FETCH a.discount
-            LEFT JOIN roomId.reservations r
             WHERE a.id =:id AND a.isDeleted=false
-            AND (r is null OR r.isVisited <> 'VISIT_DATE')
-            AND (r is null OR r.isVisited <> 'VISITED')
-            AND (r is null OR not ((r.checkIn >= :checkIn and r.checkOut <= :checkOut) or (r.checkIn < :checkIn and r.checkOut > :checkOut)))
-            AND (r is null OR (r.checkOut <= :checkIn OR r.checkIn >= :checkOut))
-            AND (r is null OR (r.checkOut <= :checkOut OR r.checkIn >= :checkOut))
+            AND (roomId IS NULL OR roomId.id NOT IN :bookedRoomIds)
             ORDER BY roomId.price ASC
             """)
     Optional<Accommodation> accommodationDetailInfo(@Param("id") Long id,
-                                                    @Param("checkIn") LocalDate checkIn,
-                                                    @Param("checkOut") LocalDate checkInOut);
+                                                    @Param("bookedRoomIds") Collection<Long> bookedRoomIds);
 
     @Query(value = """
             SELECT DISTINCT a
             FROM Accommodation a
             LEFT JOIN FETCH a.roomId roomId
-            LEFT JOIN FETCH a.rates
             LEFT JOIN FETCH a.images
             LEFT JOIN FETCH a.discount
             WHERE a.memberId =:memberId AND a.isDeleted=false
             """
     )
     Page<Accommodation> accommodationRegisteredMember(@Param("memberId") Long memberId, Pageable pageable);
+
+    @Modifying
+    @Query("""
+            UPDATE Accommodation a
+            SET a.rateSum = a.rateSum + :rate, a.rateCount = a.rateCount + 1
+            WHERE a.id = :id
+            """)
+    int increaseRate(@Param("id") Long id, @Param("rate") double rate);
+
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE Accommodation a
+            SET a.rateSum = COALESCE((SELECT SUM(r.rate) FROM Rate r WHERE r.accommodation = a AND r.isDeleted = false), 0.0),
+                a.rateCount = (SELECT COUNT(r) FROM Rate r WHERE r.accommodation = a AND r.isDeleted = false)
+            """)
+    int reconcileRateAggregates();
+
+    @Modifying
+    @Query("""
+            UPDATE Accommodation a
+            SET a.minPrice = (SELECT MIN(r.price) FROM Room r WHERE r.accommodationId = a AND r.isDeleted = false)
+            WHERE a.id = :id
+            """)
+    int refreshMinPrice(@Param("id") Long id);
+
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE Accommodation a
+            SET a.minPrice = (SELECT MIN(r.price) FROM Room r WHERE r.accommodationId = a AND r.isDeleted = false)
+            WHERE (:onlyMissing = false OR a.minPrice IS NULL)
+            """)
+    int refreshAllMinPrice(@Param("onlyMissing") boolean onlyMissing);
 }
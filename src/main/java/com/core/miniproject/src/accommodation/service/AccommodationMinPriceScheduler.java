@@ -0,0 +1,36 @@
+package com.core.miniproject.src.accommodation.service;
+
+import com.core.miniproject.src.accommodation.repository.AccommodationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccommodationMinPriceScheduler {
+
+    private final AccommodationRepository accommodationRepository;
+
+    // 최저가가 아직 계산되지 않은 숙소(기존 데이터)만 채움
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void fillMissingMinPrice() {
+        int updatedCount = accommodationRepository.refreshAllMinPrice(true);
+
+        log.info("Missing accommodation min price filled - accommodations : {}", updatedCount);
+    }
+
+    // 저장된 최저가를 Room 테이블 기준으로 다시 계산
+    @Transactional
+    @Scheduled(cron = "0 30 4 * * *")
+    public void reconcileMinPrice() {
+        int updatedCount = accommodationRepository.refreshAllMinPrice(false);
+
+        log.info("Accommodation min price reconciled - accommodations : {}", updatedCount);
+    }
+}
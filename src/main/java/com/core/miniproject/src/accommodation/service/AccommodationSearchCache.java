@@ -0,0 +1,162 @@
+package com.core.miniproject.src.accommodation.service;
+
+import com.core.miniproject.src.accommodation.domain.dto.AccommodationAllResponse;
+import com.core.miniproject.src.accommodation.domain.entity.Accommodation;
+import com.core.miniproject.src.accommodation.domain.entity.AccommodationType;
+import com.core.miniproject.src.common.util.TransactionCallbacks;
+import com.core.miniproject.src.image.domain.entity.ImageSize;
+import com.core.miniproject.src.location.domain.entity.LocationType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 숙소 검색 결과(AccommodationAllResponse) Redis 캐시
+ * 지역 & 숙소 종류별로 캐시 키 목록을 따로 보관해 예약, 객실, 숙소 변경 시 영향을 받는 키만 삭제
+ * 예약, 객실, 별점, 숙소 변경에 따른 삭제는 outbox 이벤트(AccommodationSearchCacheListener)로 처리
+ */
+@Slf4j
+@Component
+public class AccommodationSearchCache {
+
+    private static final String KEY_PREFIX = "accommodation:search:";
+    private static final String INDEX_KEY_PREFIX = "accommodation:search-index:";
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final RedisTemplate<String, AccommodationAllResponse> searchCacheRedisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictCounter;
+
+    public AccommodationSearchCache(RedisTemplate<String, AccommodationAllResponse> searchCacheRedisTemplate,
+                                    StringRedisTemplate stringRedisTemplate,
+                                    MeterRegistry meterRegistry) {
+        this.searchCacheRedisTemplate = searchCacheRedisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.hitCounter = meterRegistry.counter("accommodation.search.cache", "result", "hit");
+        this.missCounter = meterRegistry.counter("accommodation.search.cache", "result", "miss");
+        this.evictCounter = meterRegistry.counter("accommodation.search.cache.evictions");
+    }
+
+    public Optional<AccommodationAllResponse> get(LocationType locationType, AccommodationType accommodationType,
+                                                  LocalDate checkIn, LocalDate checkOut, Integer personal, Pageable pageable,
+                                                  ImageSize imageSize) {
+        String key = createKey(locationType, accommodationType, checkIn, checkOut, personal, pageable, imageSize);
+
+        try {
+            AccommodationAllResponse cached = searchCacheRedisTemplate.opsForValue().get(key);
+
+            if (cached != null) {
+                hitCounter.increment();
+                return Optional.of(cached);
+            }
+        } catch (DataAccessException e) { // 캐시 장애 시 DB 조회로 대체
+            log.warn("Accommodation search cache read failed - key : {}, error : {}", key, e.getMessage());
+        }
+
+        missCounter.increment();
+        return Optional.empty();
+    }
+
+    public void put(LocationType locationType, AccommodationType accommodationType,
+                    LocalDate checkIn, LocalDate checkOut, Integer personal, Pageable pageable, ImageSize imageSize,
+                    AccommodationAllResponse response) {
+        String key = createKey(locationType, accommodationType, checkIn, checkOut, personal, pageable, imageSize);
+        String indexKey = createIndexKey(locationType, accommodationType);
+
+        try {
+            searchCacheRedisTemplate.opsForValue().set(key, response, TTL);
+            stringRedisTemplate.opsForSet().add(indexKey, key);
+            stringRedisTemplate.expire(indexKey, TTL.multipliedBy(2));
+        } catch (DataAccessException e) {
+            log.warn("Accommodation search cache write failed - key : {}, error : {}", key, e.getMessage());
+        }
+    }
+
+    // 숙소 정보, 객실, 별점 변경 - 해당 지역 & 종류의 모든 기간 검색 결과 삭제
+    public void evict(Accommodation accommodation) {
+        evict(accommodation, null, null);
+    }
+
+    // 예약 변경 - 해당 지역 & 종류에서 예약 기간과 겹치는 검색 결과만 삭제
+    public void evict(Accommodation accommodation, LocalDate from, LocalDate to) {
+        evict(accommodation.getLocation().getLocationName(), accommodation.getAccommodationType(), from, to);
+    }
+
+    public void evict(LocationType locationType, AccommodationType accommodationType, LocalDate from, LocalDate to) {
+        TransactionCallbacks.afterCommit(() -> {
+            try {
+                evictNow(locationType, accommodationType, from, to);
+            } catch (DataAccessException e) {
+                log.warn("Accommodation search cache evict failed - location : {}, type : {}, error : {}",
+                        locationType, accommodationType, e.getMessage());
+            }
+        });
+    }
+
+    // 이벤트 리스너용 - 실패 시 예외를 그대로 던져 재전달되도록
+    public void evictNow(LocationType locationType, AccommodationType accommodationType, LocalDate from, LocalDate to) {
+        String indexKey = createIndexKey(locationType, accommodationType);
+        Set<String> keys = stringRedisTemplate.opsForSet().members(indexKey);
+
+        if (keys == null || keys.isEmpty()) {
+            return;
+        }
+
+        List<String> targets = keys.stream()
+                .filter(key -> isOverlapped(key, from, to))
+                .toList();
+
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        searchCacheRedisTemplate.delete(targets);
+        stringRedisTemplate.opsForSet().remove(indexKey, targets.toArray());
+        evictCounter.increment(targets.size());
+    }
+
+    // 키에 포함된 검색 기간(checkIn ~ checkOut)이 변경 기간과 겹치는지 확인, 기간이 없으면 전체 삭제
+    private boolean isOverlapped(String key, LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            return true;
+        }
+
+        String[] parts = key.substring(KEY_PREFIX.length()).split(":");
+        LocalDate checkIn = LocalDate.parse(parts[2]);
+        LocalDate checkOut = LocalDate.parse(parts[3]);
+
+        return checkIn.isBefore(to) && checkOut.isAfter(from);
+    }
+
+    private String createKey(LocationType locationType, AccommodationType accommodationType,
+                             LocalDate checkIn, LocalDate checkOut, Integer personal, Pageable pageable,
+                             ImageSize imageSize) {
+        return KEY_PREFIX + String.join(":",
+                locationType.name(),
+                accommodationType.name(),
+                checkIn.toString(),
+                checkOut.toString(),
+                String.valueOf(personal),
+                String.valueOf(pageable.getPageNumber()),
+                String.valueOf(pageable.getPageSize()),
+                imageSize.name());
+    }
+
+    private String createIndexKey(LocationType locationType, AccommodationType accommodationType) {
+        return INDEX_KEY_PREFIX + locationType.name() + ":" + accommodationType.name();
+    }
+}
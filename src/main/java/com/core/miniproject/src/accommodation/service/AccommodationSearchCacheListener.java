@@ -0,0 +1,31 @@
+package com.core.miniproject.src.accommodation.service;
+
+import com.core.miniproject.src.common.outbox.DomainEvent;
+import com.core.miniproject.src.common.outbox.DomainEventListener;
+import com.core.miniproject.src.common.outbox.DomainEventPayload;
+import com.core.miniproject.src.common.outbox.DomainEventType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 예약, 객실, 별점, 숙소 변경 이벤트를 받아 영향을 받는 숙소 검색 캐시 삭제
+ * 예약 이벤트는 숙박 기간과 겹치는 검색 결과만, 나머지는 해당 지역 & 종류의 모든 기간 삭제
+ */
+@Component
+@RequiredArgsConstructor
+public class AccommodationSearchCacheListener implements DomainEventListener {
+
+    private final AccommodationSearchCache searchCache;
+
+    @Override
+    public boolean supports(DomainEventType type) {
+        return true;
+    }
+
+    @Override
+    public void onEvent(DomainEvent event) {
+        DomainEventPayload payload = event.payload();
+
+        searchCache.evictNow(payload.locationType(), payload.accommodationType(), payload.checkIn(), payload.checkOut());
+    }
+}
@@ -0,0 +1,269 @@
+package com.core.miniproject.src.accommodation.service;
+
+import com.core.miniproject.src.accommodation.domain.dto.AccommodationSummary;
+import com.core.miniproject.src.accommodation.domain.entity.Accommodation;
+import com.core.miniproject.src.accommodation.domain.entity.AccommodationType;
+import com.core.miniproject.src.accommodation.repository.AccommodationRepository;
+import com.core.miniproject.src.common.util.TransactionCallbacks;
+import com.core.miniproject.src.location.domain.entity.LocationType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.cjk.CJKAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 숙소명, 소개, 주소 전문 검색용 메모리 역색인(Lucene)
+ * 한글은 CJKAnalyzer 로 2글자(bigram) 단위로 색인해 LIKE '%..%' 없이 부분 일치 검색
+ * 색인은 교체하지 않고 하나의 IndexWriter 를 유지 - 검색은 SearcherManager 의 참조 카운트로 이전 시점 reader 를 안전하게 사용
+ */
+@Slf4j
+@Component
+public class AccommodationSearchIndex {
+
+    private static final String ID = "id";
+    private static final String NAME = "name";
+    private static final String INTRODUCTION = "introduction";
+    private static final String ADDRESS = "address";
+    private static final String LOCATION_TYPE = "location_type";
+    private static final String ACCOMMODATION_TYPE = "accommodation_type";
+
+    private static final int MAX_HITS = 1000;
+
+    private final AccommodationRepository accommodationRepository;
+    private final Analyzer analyzer = new CJKAnalyzer();
+
+    private final Index index;
+    private final Object updateLock = new Object();
+
+    // 재색인 중(DB 조회 ~ 색인 재작성) 반영된 변경 - 재작성한 색인에 다시 적용, 재색인 중이 아니면 null
+    private List<IndexUpdate> updatesDuringRebuild;
+
+    public AccommodationSearchIndex(AccommodationRepository accommodationRepository) {
+        this.accommodationRepository = accommodationRepository;
+        this.index = Index.empty(analyzer);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    /**
+     * 다른 인스턴스에서 변경된 숙소를 반영하기 위해 주기적으로 전체 문서를 다시 작성
+     * 문서 교체는 잠금 안에서 한 번에 처리하고 마지막에 refresh - 검색은 교체 전 또는 후의 색인만 봄
+     * DB 조회 이후 커밋된 변경은 조회 결과에 없을 수 있으므로 재작성 후 다시 적용
+     */
+    @Scheduled(fixedDelay = 10 * 60 * 1000, initialDelay = 10 * 60 * 1000)
+    public synchronized void rebuild() {
+        synchronized (updateLock) {
+            updatesDuringRebuild = new ArrayList<>();
+        }
+
+        List<Document> documents;
+        try {
+            documents = accommodationRepository.findAllSummaries().stream()
+                    .map(summary -> toDocument(summary.id(), summary.accommodationName(), summary.introduction(),
+                            summary.address(), summary.locationType(), summary.accommodationType()))
+                    .toList();
+        } catch (RuntimeException e) {
+            synchronized (updateLock) {
+                updatesDuringRebuild = null;
+            }
+            throw e;
+        }
+
+        synchronized (updateLock) {
+            List<IndexUpdate> updates = updatesDuringRebuild;
+            updatesDuringRebuild = null;
+
+            try {
+                index.writer.deleteAll();
+                index.writer.addDocuments(documents);
+                for (IndexUpdate update : updates) {
+                    update.apply(index);
+                }
+                index.searcherManager.maybeRefresh();
+            } catch (IOException e) {
+                log.warn("Accommodation search index rebuild failed - error : {}", e.getMessage());
+                return;
+            }
+        }
+
+        log.info("Accommodation search index loaded - accommodations : {}", documents.size());
+    }
+
+    // 트랜잭션 안에서 호출된 경우 커밋 이후에 반영
+    public void index(Accommodation accommodation) {
+        Document document = toDocument(accommodation.getId(), accommodation.getAccommodationName(),
+                accommodation.getIntroduction(), accommodation.getAddress(),
+                accommodation.getLocation().getLocationName(), accommodation.getAccommodationType());
+
+        TransactionCallbacks.afterCommit(() -> update(target -> target.writer.updateDocument(idTerm(accommodation.getId()), document)));
+    }
+
+    public void remove(Long accommodationId) {
+        TransactionCallbacks.afterCommit(() -> update(target -> target.writer.deleteDocuments(idTerm(accommodationId))));
+    }
+
+    /**
+     * 검색어와 일치하는 숙소 id를 점수 순으로 반환
+     * 숙소명 > 주소 > 소개 순으로 가중치 부여, 지역 & 숙소 종류는 값이 있는 경우에만 필터로 적용
+     */
+    public List<Long> search(String keyword, LocationType locationType, AccommodationType accommodationType) {
+        Query query = createQuery(keyword, locationType, accommodationType);
+
+        if (query == null) {
+            return List.of();
+        }
+
+        Index current = index;
+        try {
+            IndexSearcher searcher = current.searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(query, MAX_HITS);
+                StoredFields storedFields = searcher.storedFields();
+
+                List<Long> ids = new ArrayList<>(topDocs.scoreDocs.length);
+                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                    ids.add(Long.valueOf(storedFields.document(scoreDoc.doc).get(ID)));
+                }
+                return ids;
+            } finally {
+                current.searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Query createQuery(String keyword, LocationType locationType, AccommodationType accommodationType) {
+        QueryBuilder queryBuilder = new QueryBuilder(analyzer);
+
+        BooleanQuery.Builder text = new BooleanQuery.Builder();
+        addTextClause(text, queryBuilder.createBooleanQuery(NAME, keyword), 3.0f);
+        addTextClause(text, queryBuilder.createBooleanQuery(ADDRESS, keyword), 1.5f);
+        addTextClause(text, queryBuilder.createBooleanQuery(INTRODUCTION, keyword), 1.0f);
+
+        BooleanQuery textQuery = text.build();
+        if (textQuery.clauses().isEmpty()) { // 분석 결과 검색할 토큰이 없는 경우
+            return null;
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder()
+                .add(textQuery, BooleanClause.Occur.MUST);
+
+        if (locationType != null) {
+            query.add(new TermQuery(new Term(LOCATION_TYPE, locationType.name())), BooleanClause.Occur.FILTER);
+        }
+        if (accommodationType != null) {
+            query.add(new TermQuery(new Term(ACCOMMODATION_TYPE, accommodationType.name())), BooleanClause.Occur.FILTER);
+        }
+        return query.build();
+    }
+
+    private static void addTextClause(BooleanQuery.Builder builder, Query query, float boost) {
+        if (query != null) {
+            builder.add(new BoostQuery(query, boost), BooleanClause.Occur.SHOULD);
+        }
+    }
+
+    private void update(IndexUpdate update) {
+        synchronized (updateLock) {
+            try {
+                update.apply(index);
+                index.searcherManager.maybeRefresh();
+            } catch (IOException e) { // 색인 반영 실패 시 다음 재색인 때 복구
+                log.warn("Accommodation search index update failed - error : {}", e.getMessage());
+            }
+
+            if (updatesDuringRebuild != null) {
+                updatesDuringRebuild.add(update);
+            }
+        }
+    }
+
+    private static Document toDocument(Long id, String name, String introduction, String address,
+                                       LocationType locationType, AccommodationType accommodationType) {
+        Document document = new Document();
+        document.add(new StringField(ID, String.valueOf(id), Field.Store.YES));
+        document.add(new TextField(NAME, nullToEmpty(name), Field.Store.NO));
+        document.add(new TextField(INTRODUCTION, nullToEmpty(introduction), Field.Store.NO));
+        document.add(new TextField(ADDRESS, nullToEmpty(address), Field.Store.NO));
+
+        if (locationType != null) {
+            document.add(new StringField(LOCATION_TYPE, locationType.name(), Field.Store.NO));
+        }
+        if (accommodationType != null) {
+            document.add(new StringField(ACCOMMODATION_TYPE, accommodationType.name(), Field.Store.NO));
+        }
+        return document;
+    }
+
+    private static Term idTerm(Long id) {
+        return new Term(ID, String.valueOf(id));
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    @PreDestroy
+    public void close() {
+        index.close();
+    }
+
+    @FunctionalInterface
+    private interface IndexUpdate {
+        void apply(Index index) throws IOException;
+    }
+
+    // 색인 디렉토리 & 쓰기 & 검색 객체 묶음 - 애플리케이션 종료 시에만 닫음
+    private static final class Index {
+
+        private final IndexWriter writer;
+        private final SearcherManager searcherManager;
+
+        private Index(IndexWriter writer, SearcherManager searcherManager) {
+            this.writer = writer;
+            this.searcherManager = searcherManager;
+        }
+
+        private static Index empty(Analyzer analyzer) {
+            try {
+                IndexWriter writer = new IndexWriter(new ByteBuffersDirectory(), new IndexWriterConfig(analyzer));
+                return new Index(writer, new SearcherManager(writer, null));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void close() {
+            try {
+                searcherManager.close();
+                writer.close();
+            } catch (IOException e) {
+                log.warn("Accommodation search index close failed - error : {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -6,63 +6,111 @@ import com.core.miniproject.src.accommodation.domain.entity.AccommodationType;
 import com.core.miniproject.src.accommodation.domain.entity.Discount;
 import com.core.miniproject.src.accommodation.repository.AccommodationRepository;
 import com.core.miniproject.src.accommodation.repository.DiscountRepository;
+import com.core.miniproject.src.basket.service.RoomHoldStore;
 import com.core.miniproject.src.common.exception.BaseException;
+import com.core.miniproject.src.common.outbox.OutboxEventRecorder;
 import com.core.miniproject.src.common.response.BaseResponseStatus;
 import com.core.miniproject.src.common.security.principal.MemberInfo;
 import com.core.miniproject.src.common.util.AccommodationUploader;
+import com.core.miniproject.src.image.domain.dto.ImageResponse;
+import com.core.miniproject.src.image.domain.dto.ImageSummary;
 import com.core.miniproject.src.image.domain.entity.AccommodationImage;
+import com.core.miniproject.src.image.domain.entity.ImageSize;
 import com.core.miniproject.src.image.repository.AccommodationImageRepository;
+import com.core.miniproject.src.image.service.StoredImageService;
 import com.core.miniproject.src.location.domain.entity.Location;
 import com.core.miniproject.src.location.domain.entity.LocationType;
 import com.core.miniproject.src.location.repository.LocationRepository;
 import com.core.miniproject.src.member.repository.MemberRepository;
+import com.core.miniproject.src.reservation.service.RoomAvailabilityIndex;
+import com.core.miniproject.src.room.domain.dto.RoomResponse;
+import com.core.miniproject.src.room.domain.dto.RoomSummary;
+import com.core.miniproject.src.room.domain.entity.Room;
+import com.core.miniproject.src.room.repository.RoomRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.core.miniproject.src.common.outbox.DomainEventType.*;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AccommodationService {
 
+    private static final int EXPORT_CHUNK_SIZE = 100;
+    private static final int MAX_SCROLL_SIZE = 50; // 무한 스크롤 한 번에 조회할 수 있는 최대 숙소 수
+
     private final AccommodationUploader imageUploader;
     private final MemberRepository memberRepository;
     private final AccommodationRepository accommodationRepository;
     private final DiscountRepository discountRepository;
     private final LocationRepository locationRepository;
     private final AccommodationImageRepository imageRepository;
-
-    @Transactional
+    private final RoomRepository roomRepository;
+    private final RoomAvailabilityIndex availabilityIndex;
+    private final RoomHoldStore roomHoldStore;
+    private final AccommodationSearchCache searchCache;
+    private final AccommodationSearchIndex searchIndex;
+    private final OutboxEventRecorder outboxEventRecorder;
+    private final ObjectMapper objectMapper;
+    private final StoredImageService storedImageService;
+    private final TransactionTemplate transactionTemplate;
+
+    // 이미지 업로드(네트워크 I/O)는 트랜잭션 밖에서 먼저 처리하고, DB 저장만 짧은 트랜잭션으로 실행
     public AccommodationInsertResponse createAccommodation(
             AccommodationInsertRequest request,
             List<MultipartFile> multipartFile, MemberInfo memberInfo)
     {
-        Accommodation accommodation =
-                getAccommodationPerDisCountAndLocation(request, multipartFile, memberInfo);
+        List<String> imagePaths = uploadImages(multipartFile);
+
+        // 롤백된 경우 올라간 이미지는 참조 없이 남으므로 StoredImageCollector 가 정리
+        Accommodation savedAccommodation = transactionTemplate.execute(status -> {
+            Accommodation accommodation =
+                    getAccommodationPerDisCountAndLocation(request, imagePaths, memberInfo);
 
-        accommodation.getImages().forEach(image -> image.assignAccommodation(accommodation));
+            accommodation.getImages().forEach(image -> image.assignAccommodation(accommodation));
 
-        Accommodation savedAccommodation = accommodationRepository.save(accommodation);
+            Accommodation saved = accommodationRepository.save(accommodation);
+            outboxEventRecorder.record(ACCOMMODATION_CREATED, saved.getId(), saved);
+            return saved;
+        });
 
+        searchIndex.index(savedAccommodation); // 커밋된 숙소만 검색 인덱스에 반영
 
         return AccommodationInsertResponse.toClient(savedAccommodation);
     }
 
+    private List<String> uploadImages(List<MultipartFile> multipartFile) {
+        if (multipartFile == null) {
+            return List.of();
+        }
+
+        try {
+            return imageUploader.upload(multipartFile);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("업로드 오류", e);
+        }
+    }
+
     private Accommodation getAccommodationPerDisCountAndLocation(
             AccommodationInsertRequest request,
-            List<MultipartFile> multipartFile,
+            List<String> imagePaths,
             MemberInfo memberInfo) {
 
         Discount discount = discountRepository.findDiscountByRate(request.getDiscountRate())
@@ -77,19 +125,13 @@ public class AccommodationService {
 
         List<AccommodationImage> images = new ArrayList<>();
 
-        if(multipartFile != null) {
-            try {
-                List<String> imagePaths = imageUploader.upload(multipartFile, "accommodationImages");
-                imagePaths.forEach(path -> {
-                    AccommodationImage image = AccommodationImage.builder()
-                            .imagePath(path)
-                            .build();
-                    images.add(image);
-                });
-            } catch (IOException e) {
-                throw new IllegalArgumentException("업로드 오류", e);
-            }
-        }
+        imagePaths.forEach(path -> {
+            AccommodationImage image = AccommodationImage.builder()
+                    .imagePath(path)
+                    .contentHash(storedImageService.reference(path)) // 같은 이미지를 여러 장 올리면 장마다 참조
+                    .build();
+            images.add(image);
+        });
 
         List<AccommodationImage> accommodationImages = imageRepository.saveAll(images);
 
@@ -113,32 +155,151 @@ public class AccommodationService {
         LocalDate checkIn = LocalDate.now();
         LocalDate checkOut = LocalDate.now().plusDays(1);
 
-        List<Accommodation> allAccommodation = accommodationRepository.getAllAccommodation(checkIn, checkOut);
+        List<AccommodationSummary> summaries = accommodationRepository.findAllSummaries();
+
+        if (summaries.isEmpty()) {
+            return Collections.emptyList();
+        }
 
-        checkRedundantImages(allAccommodation);
+        List<Long> ids = summaries.stream().map(AccommodationSummary::id).toList();
+        Map<Long, List<RoomResponse>> rooms = findRooms(ids, getBookedRoomIds(checkIn, checkOut), 0, ImageSize.ORIGINAL);
+        Map<Long, List<ImageResponse>> images = findImages(ids, ImageSize.ORIGINAL);
 
-        return allAccommodation.stream()
-                .map(AccommodationResponse::toClient)
+        return summaries.stream()
+                .map(summary -> AccommodationResponse.toClient(summary,
+                        images.getOrDefault(summary.id(), Collections.emptyList()),
+                        rooms.getOrDefault(summary.id(), Collections.emptyList())))
                 .collect(Collectors.toList());
     }
 
+    // 전체 숙소를 한 줄에 하나씩(NDJSON) 출력 - 청크 단위로 객실 & 이미지를 조회해 메모리에는 청크 크기만큼만 유지
+    @Transactional(readOnly = true)
+    public void exportAllAccommodation(OutputStream outputStream) throws IOException {
+        List<Long> bookedRoomIds = getBookedRoomIds(LocalDate.now(), LocalDate.now().plusDays(1));
+        List<AccommodationSummary> chunk = new ArrayList<>(EXPORT_CHUNK_SIZE);
+
+        try (Stream<AccommodationSummary> summaries = accommodationRepository.streamAllSummaries()) {
+            Iterator<AccommodationSummary> iterator = summaries.iterator();
+
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+
+                if (chunk.size() == EXPORT_CHUNK_SIZE || !iterator.hasNext()) {
+                    writeChunk(outputStream, chunk, bookedRoomIds);
+                    chunk.clear();
+                }
+            }
+        }
+    }
+
+    private void writeChunk(OutputStream outputStream, List<AccommodationSummary> chunk, List<Long> bookedRoomIds) throws IOException {
+        List<Long> ids = chunk.stream().map(AccommodationSummary::id).toList();
+        Map<Long, List<RoomResponse>> rooms = findRooms(ids, bookedRoomIds, 0, ImageSize.ORIGINAL);
+        Map<Long, List<ImageResponse>> images = findImages(ids, ImageSize.ORIGINAL);
+
+        for (AccommodationSummary summary : chunk) {
+            AccommodationResponse response = AccommodationResponse.toClient(summary,
+                    images.getOrDefault(summary.id(), Collections.emptyList()),
+                    rooms.getOrDefault(summary.id(), Collections.emptyList()));
+
+            outputStream.write(objectMapper.writeValueAsBytes(response));
+            outputStream.write('\n');
+        }
+        outputStream.flush();
+    }
+
     @Transactional // 수정 전체 조회
     public AccommodationAllResponse findAccommodation(
-            LocalDate checkIn, LocalDate checkInOut, String locationType, String accommodationType, Integer personal, Pageable pageable) {
+            LocalDate checkIn, LocalDate checkInOut, String locationType, String accommodationType, Integer personal,
+            Pageable pageable, String imageSize) {
 
         AccommodationType aType = AccommodationType.getByText(accommodationType);
         LocationType lType = LocationType.getByText(locationType);
+        ImageSize size = ImageSize.getByText(imageSize);
+
+        Optional<AccommodationAllResponse> cachedResponse =
+                searchCache.get(lType, aType, checkIn, checkInOut, personal, pageable, size);
 
-        List<Accommodation> allAccommodation = accommodationRepository.findAllAccommodation(checkIn, checkInOut, lType, aType, personal, pageable);
-        Integer countAccommodation = accommodationRepository.getCountAccommodation(checkIn, checkInOut, lType, aType, personal);
+        if (cachedResponse.isPresent()) {
+            return cachedResponse.get();
+        }
 
-        checkRedundantImages(allAccommodation);
+        List<Long> bookedRoomIds = getBookedRoomIds(checkIn, checkInOut);
 
-        List<AccommodationAllDto> accommodationAllDtos = allAccommodation.stream()
-                .map(AccommodationAllDto::toClient)
-                .collect(Collectors.toList());
+        List<Long> ids = accommodationRepository.findAccommodationIds(bookedRoomIds, lType, aType, personal, pageable);
+        Integer countAccommodation = accommodationRepository.getCountAccommodation(bookedRoomIds, lType, aType, personal);
+
+        List<AccommodationAllDto> accommodationAllDtos = findAccommodationDtos(ids, bookedRoomIds, personal, size);
 
-        return AccommodationAllResponse.toClient(accommodationAllDtos, countAccommodation);
+        AccommodationAllResponse response = AccommodationAllResponse.toClient(accommodationAllDtos, countAccommodation);
+        searchCache.put(lType, aType, checkIn, checkInOut, personal, pageable, size, response);
+
+        return response;
+    }
+
+    @Transactional // 무한 스크롤 조회 - 커서 이후 숙소만 조회, 전체 개수는 요청 시에만 계산
+    public AccommodationScrollResponse findAccommodationByCursor(
+            LocalDate checkIn, LocalDate checkInOut, String locationType, String accommodationType, Integer personal,
+            String cursor, int size, boolean withTotal, String imageSize) {
+
+        if (size < 1 || size > MAX_SCROLL_SIZE) {
+            throw new BaseException(BaseResponseStatus.INVALID_SCROLL_SIZE);
+        }
+
+        AccommodationType aType = AccommodationType.getByText(accommodationType);
+        LocationType lType = LocationType.getByText(locationType);
+        ImageSize imageVariant = ImageSize.getByText(imageSize);
+        AccommodationCursor after = AccommodationCursor.decode(cursor);
+
+        List<Long> bookedRoomIds = getBookedRoomIds(checkIn, checkInOut);
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<Long> ids = accommodationRepository.findAccommodationIdsAfter(
+                bookedRoomIds, lType, aType, personal, after.getMinPrice(), after.getId(), PageRequest.of(0, size + 1));
+
+        boolean hasNext = ids.size() > size;
+        List<AccommodationAllDto> accommodationAllDtos = findAccommodationDtos(
+                hasNext ? ids.subList(0, size) : ids, bookedRoomIds, personal, imageVariant);
+
+        String nextCursor = hasNext && !accommodationAllDtos.isEmpty()
+                ? AccommodationCursor.of(accommodationAllDtos.get(accommodationAllDtos.size() - 1)).encode()
+                : null;
+
+        Integer countAccommodation = withTotal
+                ? accommodationRepository.getCountAccommodation(bookedRoomIds, lType, aType, personal)
+                : null;
+
+        return AccommodationScrollResponse.toClient(accommodationAllDtos, nextCursor, countAccommodation);
+    }
+
+    // 전문 검색 - 색인에서 점수 순으로 숙소 id를 찾은 뒤, 기간이 지정된 경우 예약 가능한 숙소만 남김
+    @Transactional(readOnly = true)
+    public AccommodationSearchResponse searchAccommodation(
+            String keyword, LocalDate checkIn, LocalDate checkOut, String locationType, String accommodationType,
+            Integer personal, Pageable pageable) {
+
+        if (keyword == null || keyword.isBlank()) {
+            throw new BaseException(BaseResponseStatus.SEARCH_KEYWORD_REQUIRED);
+        }
+
+        LocationType lType = locationType != null ? LocationType.getByText(locationType) : null;
+        AccommodationType aType = accommodationType != null ? AccommodationType.getByText(accommodationType) : null;
+
+        List<Long> rankedIds = searchIndex.search(keyword.trim(), lType, aType);
+
+        if (!rankedIds.isEmpty() && checkIn != null && checkOut != null) {
+            Set<Long> availableIds = new HashSet<>(accommodationRepository.findAvailableAccommodationIds(
+                    rankedIds, getBookedRoomIds(checkIn, checkOut), personal != null ? personal : 1));
+
+            rankedIds = rankedIds.stream()
+                    .filter(availableIds::contains)
+                    .toList();
+        }
+
+        int from = (int) Math.min(pageable.getOffset(), rankedIds.size());
+        int to = Math.min(from + pageable.getPageSize(), rankedIds.size());
+
+        return AccommodationSearchResponse.toClient(rankedIds.subList(from, to), rankedIds.size());
     }
 
     @Transactional
@@ -147,7 +308,10 @@ public class AccommodationService {
         Accommodation accommodation = accommodationRepository.findByAccommodationId(id).orElseThrow(
                 () -> new BaseException(BaseResponseStatus.ACCOMMODATION_DOES_NOT_EXIST));
         try {
+            releaseImages(accommodation);
             accommodationRepository.deleteById(accommodation.getId());
+            outboxEventRecorder.record(ACCOMMODATION_DELETED, accommodation.getId(), accommodation);
+            searchIndex.remove(accommodation.getId());
             return BaseResponseStatus.DELETE_SUCCESS;
         } catch (Exception e) {
             throw new BaseException(BaseResponseStatus.DELETE_FAIL);
@@ -170,14 +334,17 @@ public class AccommodationService {
 
         List<AccommodationImage> images = updateImage(id, request, accommodation);
         List<AccommodationImage> newImages = imageRepository.saveAll(images);
+        outboxEventRecorder.record(ACCOMMODATION_UPDATED, accommodation.getId(), accommodation); // 변경 전 지역 & 종류의 검색 결과
         accommodation.update(request,location,discount, newImages);
         Accommodation accommodation1 = accommodationRepository.save(accommodation);
+        outboxEventRecorder.record(ACCOMMODATION_UPDATED, accommodation1.getId(), accommodation1);
+        searchIndex.index(accommodation1);
         return AccommodationResponse.toClient(accommodation1);
     }
 
     public AccommodationResponse getAccommodationDetail(Long accommodationId, LocalDate checkIn, LocalDate checkOut) {
 
-        Accommodation accommodation = accommodationRepository.accommodationDetailInfo(accommodationId, checkIn, checkOut)
+        Accommodation accommodation = accommodationRepository.accommodationDetailInfo(accommodationId, getBookedRoomIds(checkIn, checkOut))
                 .orElseThrow(() -> new BaseException(BaseResponseStatus.ACCOMMODATION_DOES_NOT_EXIST));
 
         checkRedundantImages(accommodation);
@@ -198,12 +365,79 @@ public class AccommodationService {
         return RegisteredAccommodationResponse.toClient(dtoList, totalElements);
     }
 
+    // 페이지에 해당하는 숙소 id를 먼저 조회한 뒤, 응답에 필요한 컬럼만 projection 으로 조회해 id 순서대로 조합 (엔티티 그래프 생성 X)
+    private List<AccommodationAllDto> findAccommodationDtos(List<Long> ids, List<Long> bookedRoomIds, Integer personal,
+                                                            ImageSize size) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, AccommodationSummary> summaries = accommodationRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(AccommodationSummary::id, Function.identity()));
+        Map<Long, List<RoomResponse>> rooms = findRooms(ids, bookedRoomIds, personal, size);
+        Map<Long, List<ImageResponse>> images = findImages(ids, size);
+
+        return ids.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .map(summary -> AccommodationAllDto.toClient(summary,
+                        images.getOrDefault(summary.id(), Collections.emptyList()),
+                        rooms.getOrDefault(summary.id(), Collections.emptyList())))
+                .collect(Collectors.toList());
+    }
+
+    private Map<Long, List<RoomResponse>> findRooms(List<Long> ids, List<Long> bookedRoomIds, Integer personal, ImageSize size) {
+        return roomRepository.findSummariesByAccommodationIdIn(ids, bookedRoomIds, personal).stream()
+                .collect(Collectors.groupingBy(RoomSummary::accommodationId,
+                        Collectors.mapping(room -> RoomResponse.toClient(room, size), Collectors.toList())));
+    }
+
+    // 요청한 크기의 축소 이미지 경로로 응답 (목록 화면은 thumbnail 로 전송량 감소)
+    private Map<Long, List<ImageResponse>> findImages(List<Long> ids, ImageSize size) {
+        return imageRepository.findSummariesByAccommodationIdIn(ids).stream()
+                .collect(Collectors.groupingBy(ImageSummary::accommodationId,
+                        Collectors.mapping(image -> ImageResponse.toClient(image, size), Collectors.toList())));
+    }
+
+    // 예약 인덱스에서 해당 기간에 예약된 객실 id 조회 (NOT IN 조건에 빈 목록이 전달되지 않도록 존재하지 않는 id 0 사용)
+    // 예약된 객실 + 장바구니에 담겨 선점(RoomHoldStore)된 객실
+    private List<Long> getBookedRoomIds(LocalDate checkIn, LocalDate checkOut) {
+        Set<Long> bookedRoomIds = availabilityIndex.findBookedRoomIds(checkIn, checkOut);
+        bookedRoomIds.addAll(roomHoldStore.findHeldRoomIds(checkIn, checkOut));
+
+        if (bookedRoomIds.isEmpty()) {
+            return List.of(0L);
+        }
+        return new ArrayList<>(bookedRoomIds);
+    }
+
+    // 숙소 삭제 시 숙소 & 객실(함께 삭제됨) 이미지의 참조 해제 - 참조가 남지 않은 이미지는 StoredImageCollector 가 정리
+    // 이미 삭제된 객실(soft delete)의 이미지는 객실 삭제 시 참조 해제했으므로 제외 - 두 번 해제하면 공유 중인 이미지가 정리됨
+    private void releaseImages(Accommodation accommodation) {
+        imageRepository.findAllById(accommodation.getId())
+                .forEach(image -> storedImageService.release(image.getContentHash()));
+        accommodation.getRoomId().stream()
+                .filter(room -> !room.isDeleted())
+                .map(Room::getRoomImage)
+                .filter(Objects::nonNull)
+                .forEach(image -> storedImageService.release(image.getContentHash()));
+    }
+
+    // 요청에 없는 기존 이미지는 삭제하고 참조 해제
     private List<AccommodationImage> updateImage(Long id, AccommodationRequest request, Accommodation accommodation){
         List<AccommodationImage> images = imageRepository.findAllById(id);
         List<String> requestImages = request.getAccommodationImage();
         if (images == null) {
             images = new ArrayList<>();
         }else{
+            List<AccommodationImage> dropped = images.stream()
+                    .filter(image -> requestImages.stream().noneMatch(path -> path.equalsIgnoreCase(image.getImagePath())))
+                    .toList();
+            dropped.forEach(image -> storedImageService.release(image.getContentHash()));
+            imageRepository.deleteAll(dropped);
+            images = new ArrayList<>(images);
+            images.removeAll(dropped);
+
             for(int i = 0; i < request.getAccommodationImage().size(); i++){
                 String imagePath = requestImages.get(i);
                 AccommodationImage image = getByImagePath(images, imagePath);
@@ -213,6 +447,7 @@ public class AccommodationService {
                     AccommodationImage newImage = AccommodationImage.builder()
                             .accommodation(accommodation)
                             .imagePath(imagePath)
+                            .contentHash(storedImageService.reference(imagePath))
                             .build();
                     images.add(newImage);
                 }
@@ -231,21 +466,6 @@ public class AccommodationService {
         return null;
     }
 
-    private void checkRedundantImages(List<Accommodation> accommodations){
-        for (Accommodation accommodation : accommodations) {
-            Set<Long> imageIds = new HashSet<>();
-            List<AccommodationImage> newImages = new ArrayList<>();
-            for (AccommodationImage image : accommodation.getImages()) {
-                Long imageId = image.getId();
-                if (!imageIds.contains(imageId)) {
-                    imageIds.add(imageId);
-                    newImages.add(image);
-                }
-            }
-            accommodation.assignImages(newImages);
-        }
-    }
-
     private void checkRedundantImages(Accommodation accommodation){
         Set<Long> imageIds = new HashSet<>();
         List<AccommodationImage> newImages = new ArrayList<>();
@@ -1,9 +1,6 @@
 package com.core.miniproject.src.basket.controller;
 
-import com.core.miniproject.src.basket.domain.dto.BasketCreateResponse;
-import com.core.miniproject.src.basket.domain.dto.BasketCreateRequest;
-import com.core.miniproject.src.basket.domain.dto.BasketDeleteRequest;
-import com.core.miniproject.src.basket.domain.dto.BasketReadResponse;
+import com.core.miniproject.src.basket.domain.dto.*;
 import com.core.miniproject.src.basket.service.BasketService;
 import com.core.miniproject.src.common.response.BaseResponse;
 import com.core.miniproject.src.common.security.JwtAuthentication;
@@ -31,6 +28,16 @@ public class BasketController {
         return BaseResponse.response(response);
     }
 
+    @PostMapping("/v1/basket/bulk") // 장바구니 일괄 등록 - 항목별 성공 & 실패 결과 반환
+    public BaseResponse<BasketBulkCreateResponse> registerBaskets(
+            @RequestBody BasketBulkCreateRequest request,
+            @JwtAuthentication MemberInfo memberInfo)
+    {
+        BasketBulkCreateResponse response = basketService.registerBaskets(request, memberInfo);
+
+        return BaseResponse.response(response);
+    }
+
     @GetMapping("/v1/basket/all")
     public BaseResponse<List<BasketReadResponse>> readAllBasket(@JwtAuthentication MemberInfo memberInfo) {
 
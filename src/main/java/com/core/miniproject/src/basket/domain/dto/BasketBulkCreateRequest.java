@@ -0,0 +1,15 @@
+package com.core.miniproject.src.basket.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BasketBulkCreateRequest {
+
+    private List<BasketBulkItemRequest> items;
+}
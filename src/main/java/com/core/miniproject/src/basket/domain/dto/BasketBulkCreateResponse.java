@@ -0,0 +1,23 @@
+package com.core.miniproject.src.basket.domain.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class BasketBulkCreateResponse {
+
+    private int successCount;
+    private List<BasketBulkItemResponse> results;
+
+    public static BasketBulkCreateResponse toClient(List<BasketBulkItemResponse> results) {
+        return BasketBulkCreateResponse.builder()
+                .successCount((int) results.stream().filter(BasketBulkItemResponse::isSuccess).count())
+                .results(results)
+                .build();
+    }
+}
@@ -0,0 +1,21 @@
+package com.core.miniproject.src.basket.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BasketBulkItemRequest {
+
+    private Long roomId;
+    private LocalDate checkIn;
+    private LocalDate checkOut;
+
+    public boolean isValidPeriod() {
+        return checkIn != null && checkOut != null && checkIn.isBefore(checkOut);
+    }
+}
@@ -0,0 +1,45 @@
+package com.core.miniproject.src.basket.domain.dto;
+
+import com.core.miniproject.src.common.response.BaseResponseStatus;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 장바구니 일괄 담기 항목별 결과 - 실패한 항목은 실패 사유(statusCode, message)만 포함
+ */
+@Getter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class BasketBulkItemResponse {
+
+    private Long roomId;
+    private LocalDate checkIn;
+    private LocalDate checkOut;
+    private Boolean isSuccess;
+    private int statusCode;
+    private String message;
+    private BasketCreateResponse basket;
+
+    public static BasketBulkItemResponse success(BasketBulkItemRequest request, BasketItem item) {
+        return of(request, BaseResponseStatus.SUCCESS)
+                .basket(BasketCreateResponse.toClient(item))
+                .build();
+    }
+
+    public static BasketBulkItemResponse failure(BasketBulkItemRequest request, BaseResponseStatus status) {
+        return of(request, status).build();
+    }
+
+    private static BasketBulkItemResponseBuilder of(BasketBulkItemRequest request, BaseResponseStatus status) {
+        return BasketBulkItemResponse.builder()
+                .roomId(request.getRoomId())
+                .checkIn(request.getCheckIn())
+                .checkOut(request.getCheckOut())
+                .isSuccess(status.isSuccess())
+                .statusCode(status.getStatusCode())
+                .message(status.getMessage());
+    }
+}
@@ -39,4 +39,20 @@ public class BasketCreateResponse {
                 .checkOut(savedBasket.getCheckOut())
                 .build();
     }
+
+    public static BasketCreateResponse toClient(BasketItem item) {
+        return BasketCreateResponse.builder()
+                .id(item.getId())
+                .memberId(item.getMemberId())
+                .roomId(item.getRoomId())
+                .roomName(item.getRoomName())
+                .address(item.getAddress())
+                .fixedNumber(item.getFixedNumber())
+                .maxedNumber(item.getMaxedNumber())
+                .price(item.getPrice())
+                .discount(item.getDiscount())
+                .checkIn(item.getCheckIn())
+                .checkOut(item.getCheckOut())
+                .build();
+    }
 }
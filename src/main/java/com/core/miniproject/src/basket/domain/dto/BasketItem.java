@@ -0,0 +1,74 @@
+package com.core.miniproject.src.basket.domain.dto;
+
+import com.core.miniproject.src.basket.domain.entity.Basket;
+import com.core.miniproject.src.room.domain.entity.Room;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * Redis 회원별 장바구니 해시에 저장되는 장바구니 항목(JSON)
+ * 조회 응답에 필요한 숙소명까지 함께 보관해 조회 시 DB 조인 X
+ */
+@Getter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class BasketItem {
+
+    private Long id;
+    private Long memberId;
+    private Long roomId;
+    private String accommodationName;
+    private String roomName;
+    private String address;
+    private int fixedNumber;
+    private int maxedNumber;
+    private int price;
+    private double discount;
+    private LocalDate checkIn;
+    private LocalDate checkOut;
+    private String basketImage;
+
+    public static BasketItem of(Long id, Long memberId, Room room, BasketCreateRequest request) {
+        return BasketItem.builder()
+                .id(id)
+                .memberId(memberId)
+                .roomId(room.getId())
+                .accommodationName(room.getAccommodationId().getAccommodationName())
+                .roomName(room.getRoomName())
+                .address(room.getAccommodationId().getAddress())
+                .fixedNumber(room.getFixedMember())
+                .maxedNumber(room.getMaxedMember())
+                .price(room.getPrice())
+                .discount(room.getAccommodationId().getDiscount().getDiscountRate())
+                .checkIn(request.getCheckIn())
+                .checkOut(request.getCheckOut())
+                .basketImage(room.getRoomName())
+                .build();
+    }
+
+    // 캐시 유실 시 DB 장바구니로 재구성
+    public static BasketItem of(Basket basket) {
+        return BasketItem.builder()
+                .id(basket.getId())
+                .memberId(basket.getMember().getId())
+                .roomId(basket.getRoom().getId())
+                .accommodationName(basket.getRoom().getAccommodationId().getAccommodationName())
+                .roomName(basket.getRoomName())
+                .address(basket.getAddress())
+                .fixedNumber(basket.getFixedNumber())
+                .maxedNumber(basket.getMaxedNumber())
+                .price(basket.getPrice())
+                .discount(basket.getDiscount())
+                .checkIn(basket.getCheckIn())
+                .checkOut(basket.getCheckOut())
+                .basketImage(basket.getBasketImage())
+                .build();
+    }
+
+    public boolean isOverlapped(Long roomId, LocalDate checkIn, LocalDate checkOut) {
+        return this.roomId.equals(roomId) && this.checkIn.isBefore(checkOut) && this.checkOut.isAfter(checkIn);
+    }
+}
@@ -42,4 +42,21 @@ public class BasketReadResponse {
                 .basketImage(basket.getBasketImage())
                 .build();
     }
+
+    public static BasketReadResponse toClient(BasketItem item) {
+        return BasketReadResponse.builder()
+                .id(item.getId())
+                .roomId(item.getRoomId())
+                .accommodationName(item.getAccommodationName())
+                .roomName(item.getRoomName())
+                .address(item.getAddress())
+                .fixedNumber(item.getFixedNumber())
+                .maxedNumber(item.getMaxedNumber())
+                .price(item.getPrice())
+                .discount(item.getDiscount())
+                .checkIn(item.getCheckIn())
+                .checkOut(item.getCheckOut())
+                .basketImage(item.getBasketImage())
+                .build();
+    }
 }
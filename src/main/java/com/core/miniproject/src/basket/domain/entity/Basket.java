@@ -1,11 +1,12 @@
 package com.core.miniproject.src.basket.domain.entity;
 
-import com.core.miniproject.src.basket.domain.dto.BasketCreateRequest;
+import com.core.miniproject.src.basket.domain.dto.BasketItem;
 import com.core.miniproject.src.common.entity.BaseEntity;
 import com.core.miniproject.src.member.domain.entity.Member;
 import com.core.miniproject.src.room.domain.entity.Room;
 import jakarta.persistence.*;
 import lombok.*;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDate;
 
@@ -14,10 +15,10 @@ import java.time.LocalDate;
 @AllArgsConstructor
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class Basket extends BaseEntity {
+public class Basket extends BaseEntity implements Persistable<Long> {
 
+    // id는 Redis 카운터(BasketStore)에서 발급 - 장바구니를 Redis 에 먼저 저장하고 DB에는 나중에 일괄 저장
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "basket_id")
     private Long id;
 
@@ -55,19 +56,36 @@ public class Basket extends BaseEntity {
     @JoinColumn(name = "room_id", nullable = false)
     private Room room;
 
-    public static Basket create(Member member, Room room, BasketCreateRequest request) {
+    // id를 직접 지정하므로 저장 전 SELECT(merge) 없이 INSERT 되도록 신규 여부를 직접 관리
+    @Transient
+    @Builder.Default
+    private boolean persisted = false;
+
+    public static Basket create(BasketItem item, Member member, Room room) {
         return Basket.builder()
-                .roomName(room.getRoomName())
-                .address(room.getAccommodationId().getAddress())
-                .fixedNumber(room.getFixedMember())
-                .maxedNumber(room.getMaxedMember())
-                .price(room.getPrice())
-                .discount(room.getAccommodationId().getDiscount().getDiscountRate())
-                .checkIn(request.getCheckIn())
-                .checkOut(request.getCheckOut())
-                .basketImage(room.getRoomName())
+                .id(item.getId())
+                .roomName(item.getRoomName())
+                .address(item.getAddress())
+                .fixedNumber(item.getFixedNumber())
+                .maxedNumber(item.getMaxedNumber())
+                .price(item.getPrice())
+                .discount(item.getDiscount())
+                .checkIn(item.getCheckIn())
+                .checkOut(item.getCheckOut())
+                .basketImage(item.getBasketImage())
                 .member(member)
                 .room(room)
                 .build();
     }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
 }
@@ -1,82 +1,229 @@
 package com.core.miniproject.src.basket.service;
 
-import com.core.miniproject.src.basket.domain.dto.BasketCreateRequest;
-import com.core.miniproject.src.basket.domain.dto.BasketCreateResponse;
-import com.core.miniproject.src.basket.domain.dto.BasketDeleteRequest;
-import com.core.miniproject.src.basket.domain.dto.BasketReadResponse;
-import com.core.miniproject.src.basket.domain.entity.Basket;
+import com.core.miniproject.src.accommodation.service.AccommodationSearchCache;
+import com.core.miniproject.src.basket.domain.dto.*;
 import com.core.miniproject.src.basket.repository.BasketRepository;
 import com.core.miniproject.src.common.exception.BaseException;
+import com.core.miniproject.src.common.response.BaseResponseStatus;
 import com.core.miniproject.src.common.security.principal.MemberInfo;
-import com.core.miniproject.src.member.domain.entity.Member;
-import com.core.miniproject.src.member.repository.MemberRepository;
-import com.core.miniproject.src.reservation.model.entity.Reservation;
-import com.core.miniproject.src.reservation.repository.ReservationRepository;
+import com.core.miniproject.src.reservation.model.dto.BookedNight;
+import com.core.miniproject.src.reservation.model.entity.RoomNight;
+import com.core.miniproject.src.reservation.repository.RoomNightRepository;
+import com.core.miniproject.src.reservation.service.RoomAvailabilityIndex;
 import com.core.miniproject.src.room.domain.entity.Room;
 import com.core.miniproject.src.room.repository.RoomRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.util.Collections;
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.core.miniproject.src.common.response.BaseResponseStatus.*;
 
-
+/**
+ * 장바구니는 Redis(BasketStore)에서 읽고 쓰며, DB에는 BasketWriteBehind 가 일괄 반영
+ * 회원 정보는 인증 토큰(MemberInfo)의 id를 그대로 사용 - 조회마다 회원 조회 X
+ */
 @Service
 @RequiredArgsConstructor
 public class BasketService {
 
-    private final MemberRepository memberRepository;
+    private static final int MAX_BULK_ITEMS = 20; // 일괄 담기 요청당 최대 항목 수
+
     private final BasketRepository basketRepository;
     private final RoomRepository roomRepository;
+    private final RoomNightRepository roomNightRepository;
+    private final BasketStore basketStore;
+    private final RoomAvailabilityIndex availabilityIndex;
+    private final RoomHoldStore roomHoldStore;
+    private final AccommodationSearchCache searchCache;
 
-    @Transactional
     public BasketCreateResponse registerBasket(Long roomId, BasketCreateRequest request, MemberInfo memberInfo) {
 
-        Member member = memberRepository.findById(memberInfo.getId())
-                .orElseThrow(() -> new BaseException(MEMBER_NOT_FOUND));
+        Long memberId = memberInfo.getId();
 
         Room room = roomRepository.findByRoomId(roomId)
                 .orElseThrow(() -> new BaseException(ROOM_NOT_FOUND));
 
-        List<Basket> basketList = basketRepository.findByRoomIdAndCheckInAndCheckOut(request.getCheckIn(), request.getCheckOut(), roomId);
+        boolean duplicated = findItems(memberId).stream()
+                .anyMatch(item -> item.isOverlapped(roomId, request.getCheckIn(), request.getCheckOut()));
 
-        if(!basketList.isEmpty()) {
+        if(duplicated) {
             throw new BaseException(BASKET_IS_DUPLICATE);
         }
 
-        Basket basket = Basket.create(member, room, request);
+        if (!availabilityIndex.isAvailable(roomId, request.getCheckIn(), request.getCheckOut())) {
+            throw new BaseException(RESERVATION_IS_DUPLICATE);
+        }
+
+        // 담는 시점에 숙박일을 선점 - 다른 회원이 선점 중이면 실패, 선점은 TTL 만료 시 자동 해제
+        if (!roomHoldStore.hold(roomId, request.getCheckIn(), request.getCheckOut(), memberId)) {
+            throw new BaseException(ROOM_IS_HELD);
+        }
+
+        BasketItem item;
+        try {
+            item = BasketItem.of(basketStore.nextId(), memberId, room, request);
+            basketStore.add(item);
+        } catch (RuntimeException e) { // 담기에 실패하면 TTL 만료까지 기다리지 않고 선점 해제
+            roomHoldStore.release(roomId, request.getCheckIn(), request.getCheckOut(), memberId);
+            throw e;
+        }
 
-        Basket savedBasket = basketRepository.save(basket);
+        searchCache.evict(room.getAccommodationId(), request.getCheckIn(), request.getCheckOut());
 
-        return BasketCreateResponse.toClient(savedBasket);
+        return BasketCreateResponse.toClient(item);
     }
 
-    public List<BasketReadResponse> readAllBasket(MemberInfo memberInfo) {
+    /**
+     * 장바구니 일괄 담기 - 항목 수와 관계없이 객실 조회 1회 + 예약된 숙박일 조회 1회
+     * 실패한 항목이 있어도 나머지는 담고 항목별 결과를 반환 (저장 자체가 실패하면 이번 요청에서 선점한 숙박일 모두 해제)
+     */
+    public BasketBulkCreateResponse registerBaskets(BasketBulkCreateRequest request, MemberInfo memberInfo) {
+
+        Long memberId = memberInfo.getId();
+        List<BasketBulkItemRequest> requests = request.getItems() == null ? List.of() : request.getItems();
+
+        if (requests.size() > MAX_BULK_ITEMS) {
+            throw new BaseException(BASKET_BULK_LIMIT_EXCEEDED);
+        }
+
+        Set<Long> roomIds = requests.stream()
+                .map(BasketBulkItemRequest::getRoomId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        Map<Long, Room> rooms = roomIds.isEmpty() ? Map.of() : roomRepository.findAllAvailableByIdIn(roomIds).stream()
+                .collect(Collectors.toMap(Room::getId, Function.identity()));
+
+        List<BasketItem> baskets = new ArrayList<>(findItems(memberId)); // 기존 장바구니 + 이번 요청에서 담긴 항목
+        Set<BookedNight> bookedNights = findBookedNights(requests);
+
+        BasketBulkItemResponse[] results = new BasketBulkItemResponse[requests.size()];
+        List<Integer> accepted = new ArrayList<>();
+
+        try {
+            addAccepted(requests, memberId, rooms, baskets, bookedNights, results, accepted);
+        } catch (RuntimeException e) {
+            accepted.forEach(i -> roomHoldStore.release(
+                    requests.get(i).getRoomId(), requests.get(i).getCheckIn(), requests.get(i).getCheckOut(), memberId));
+            throw e;
+        }
+
+        return BasketBulkCreateResponse.toClient(Arrays.asList(results));
+    }
+
+    // 검증 & 선점에 성공한 항목(accepted)만 담고 results 에 항목별 결과 기록
+    private void addAccepted(List<BasketBulkItemRequest> requests, Long memberId, Map<Long, Room> rooms,
+                             List<BasketItem> baskets, Set<BookedNight> bookedNights,
+                             BasketBulkItemResponse[] results, List<Integer> accepted) {
+        for (int i = 0; i < requests.size(); i++) {
+            BasketBulkItemRequest item = requests.get(i);
+            BaseResponseStatus status = validate(item, rooms, baskets, bookedNights);
+
+            if (status == null && !roomHoldStore.hold(item.getRoomId(), item.getCheckIn(), item.getCheckOut(), memberId)) {
+                status = ROOM_IS_HELD;
+            }
+
+            if (status != null) {
+                results[i] = BasketBulkItemResponse.failure(item, status);
+                continue;
+            }
+
+            // 같은 요청 안에서 겹치는 항목은 먼저 담긴 항목만 성공하도록 중복 확인 대상에 추가 (id는 아래에서 일괄 발급)
+            baskets.add(BasketItem.builder().roomId(item.getRoomId()).checkIn(item.getCheckIn()).checkOut(item.getCheckOut()).build());
+            accepted.add(i);
+        }
+
+        List<Long> ids = accepted.isEmpty() ? List.of() : basketStore.nextIds(accepted.size());
+        List<BasketItem> added = new ArrayList<>(accepted.size());
+
+        for (int a = 0; a < accepted.size(); a++) {
+            int i = accepted.get(a);
+            BasketBulkItemRequest item = requests.get(i);
+            Room room = rooms.get(item.getRoomId());
 
-        Member member = memberRepository.findById(memberInfo.getId())
-                .orElseThrow(() -> new BaseException(MEMBER_NOT_FOUND));
+            BasketItem basket = BasketItem.of(ids.get(a), memberId, room, new BasketCreateRequest(item.getCheckIn(), item.getCheckOut()));
+            added.add(basket);
+            results[i] = BasketBulkItemResponse.success(item, basket);
+            searchCache.evict(room.getAccommodationId(), item.getCheckIn(), item.getCheckOut());
+        }
+
+        basketStore.addAll(memberId, added);
+    }
+
+    // 항목 검증 - 통과 시 null
+    private BaseResponseStatus validate(BasketBulkItemRequest item, Map<Long, Room> rooms,
+                                        List<BasketItem> baskets, Set<BookedNight> bookedNights) {
+        if (!item.isValidPeriod()) {
+            return INVALID_DATE_SETTING;
+        }
+        if (item.getRoomId() == null || !rooms.containsKey(item.getRoomId())) {
+            return ROOM_NOT_FOUND;
+        }
+        if (baskets.stream().anyMatch(basket -> basket.isOverlapped(item.getRoomId(), item.getCheckIn(), item.getCheckOut()))) {
+            return BASKET_IS_DUPLICATE;
+        }
+        if (BookedNight.of(item.getRoomId(), item.getCheckIn(), item.getCheckOut()).stream().anyMatch(bookedNights::contains)) {
+            return RESERVATION_IS_DUPLICATE;
+        }
+        return null;
+    }
 
-        List<Basket> basketList = basketRepository.findAllBasketByMemberId(member.getId());
+    // 요청된 객실 x 숙박일 중 이미 예약된 숙박일을 한 번에 조회
+    private Set<BookedNight> findBookedNights(List<BasketBulkItemRequest> requests) {
+        Set<Long> roomIds = new HashSet<>();
+        Set<LocalDate> nights = new HashSet<>();
 
-        return basketList.stream()
+        for (BasketBulkItemRequest item : requests) {
+            if (item.getRoomId() != null && item.isValidPeriod()) {
+                roomIds.add(item.getRoomId());
+                nights.addAll(RoomNight.nightsOf(item.getCheckIn(), item.getCheckOut()));
+            }
+        }
+
+        if (nights.isEmpty()) {
+            return Set.of();
+        }
+
+        return new HashSet<>(roomNightRepository.findAllBookedNights(roomIds, nights));
+    }
+
+    public List<BasketReadResponse> readAllBasket(MemberInfo memberInfo) {
+
+        return findItems(memberInfo.getId()).stream()
                 .map(BasketReadResponse::toClient)
                 .collect(Collectors.toList());
     }
 
     // 삭제할 데이터가 없는 경우 0 반환(예외처리 X)
-    @Transactional
     public Integer deleteSelectedBasket(BasketDeleteRequest request, MemberInfo memberInfo) {
 
-        Member member = memberRepository.findById(memberInfo.getId())
-                .orElseThrow(() -> new BaseException(MEMBER_NOT_FOUND));
+        Long memberId = memberInfo.getId();
+        findItems(memberId); // 캐시 유실 시 DB 장바구니 적재 후 삭제
+
+        // 삭제한 장바구니의 선점도 함께 해제
+        List<BasketItem> removed = basketStore.remove(memberId, request.getBaskIds());
+        removed.forEach(item -> roomHoldStore.release(item.getRoomId(), item.getCheckIn(), item.getCheckOut(), memberId));
+
+        return removed.size();
+    }
+
+    // Redis 장바구니 조회, 적재되지 않은 경우(캐시 유실) DB 장바구니로 재구성
+    private List<BasketItem> findItems(Long memberId) {
+        return basketStore.findAll(memberId).orElseGet(() -> {
+            List<BasketItem> items = findItemsFromDatabase(memberId);
+            basketStore.load(memberId, items);
+
+            return basketStore.findAll(memberId).orElse(items);
+        });
+    }
 
-        return request.getBaskIds().stream()
-                .mapToInt(basketId -> basketRepository.deleteBasketByMemberIdAndBasketId(member.getId(), basketId))
-                .sum();
+    private List<BasketItem> findItemsFromDatabase(Long memberId) {
+        return basketRepository.findAllBasketByMemberId(memberId).stream()
+                .map(BasketItem::of)
+                .toList();
     }
 }
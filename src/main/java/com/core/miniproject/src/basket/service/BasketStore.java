@@ -0,0 +1,298 @@
+package com.core.miniproject.src.basket.service;
+
+import com.core.miniproject.src.basket.domain.dto.BasketItem;
+import com.core.miniproject.src.common.util.TransactionCallbacks;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 회원별 장바구니 Redis 해시(basket:{memberId}:items, 필드 = 장바구니 id)
+ * 추가 & 삭제는 해시에 바로 반영하고 DB 반영 대상은 회원별 pending & removed 집합에 쌓아 BasketWriteBehind 가 일괄 저장
+ * 해시의 loaded 필드로 DB 장바구니가 적재된 상태인지 구분 - 없으면 캐시 유실로 보고 DB에서 다시 적재
+ */
+@Slf4j
+@Component
+public class BasketStore {
+
+    private static final String KEY_PREFIX = "basket:";
+    private static final String DIRTY_MEMBERS_KEY = "basket:dirty-members";
+    private static final String ID_SEQUENCE_KEY = "basket:id-seq";
+    private static final String LOADED_FIELD = "loaded";
+    private static final Duration TTL = Duration.ofDays(7);
+    private static final Duration FLUSH_LOCK_TTL = Duration.ofSeconds(30);
+
+    // 카운터가 기준값(DB 최대 id)보다 작으면 기준값으로 올림
+    private static final RedisScript<Long> ID_FLOOR_SCRIPT = new DefaultRedisScript<>("""
+            local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+            local floor = tonumber(ARGV[1])
+            if current < floor then
+                redis.call('SET', KEYS[1], floor)
+                return floor
+            end
+            return current
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private volatile long idFloor;
+
+    public BasketStore(StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @return 적재되지 않은 경우(캐시 유실, Redis 장애) empty - DB에서 다시 적재 필요
+     */
+    public Optional<List<BasketItem>> findAll(Long memberId) {
+        try {
+            Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(itemsKey(memberId));
+
+            if (!entries.containsKey(LOADED_FIELD)) {
+                return Optional.empty();
+            }
+
+            return Optional.of(entries.entrySet().stream()
+                    .filter(entry -> !LOADED_FIELD.equals(entry.getKey()))
+                    .map(entry -> readItem((String) entry.getValue()))
+                    .sorted(Comparator.comparing(BasketItem::getId))
+                    .toList());
+        } catch (DataAccessException e) {
+            log.warn("Basket cache read failed - member_id : {}, error : {}", memberId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // DB 장바구니 적재 - 유실 이후 새로 담긴(아직 DB에 없는) 항목은 덮어쓰지 않음
+    public void load(Long memberId, List<BasketItem> items) {
+        String key = itemsKey(memberId);
+
+        try {
+            items.forEach(item -> stringRedisTemplate.opsForHash().putIfAbsent(key, String.valueOf(item.getId()), writeItem(item)));
+            stringRedisTemplate.opsForHash().put(key, LOADED_FIELD, "1");
+            stringRedisTemplate.expire(key, TTL);
+        } catch (DataAccessException e) {
+            log.warn("Basket cache load failed - member_id : {}, error : {}", memberId, e.getMessage());
+        }
+    }
+
+    public void add(BasketItem item) {
+        addAll(item.getMemberId(), List.of(item));
+    }
+
+    // 항목 수와 관계없이 HSET 1회 + SADD 2회
+    public void addAll(Long memberId, List<BasketItem> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+
+        String key = itemsKey(memberId);
+        Map<String, String> entries = new LinkedHashMap<>();
+        items.forEach(item -> entries.put(String.valueOf(item.getId()), writeItem(item)));
+
+        stringRedisTemplate.opsForHash().putAll(key, entries);
+        stringRedisTemplate.expire(key, TTL);
+        stringRedisTemplate.opsForSet().add(pendingKey(memberId), entries.keySet().toArray(String[]::new));
+        stringRedisTemplate.opsForSet().add(DIRTY_MEMBERS_KEY, String.valueOf(memberId));
+    }
+
+    /**
+     * 장바구니 삭제 - 아직 DB에 저장되지 않은 항목은 저장 대상에서만 제외, 나머지는 DB 삭제 대상에 추가
+     * 항목 수와 관계없이 HMGET, HDEL, SMISMEMBER, SREM, SADD 각 1회
+     * @return 실제로 삭제된 항목
+     */
+    public List<BasketItem> remove(Long memberId, List<Long> basketIds) {
+        if (basketIds == null || basketIds.isEmpty()) {
+            return List.of();
+        }
+
+        String key = itemsKey(memberId);
+        List<Object> fields = basketIds.stream().distinct().map(id -> (Object) String.valueOf(id)).toList();
+        List<Object> values = stringRedisTemplate.opsForHash().multiGet(key, fields);
+
+        List<String> removedIds = new ArrayList<>();
+        List<BasketItem> removed = new ArrayList<>();
+        for (int i = 0; i < fields.size(); i++) {
+            if (values.get(i) != null) {
+                removedIds.add((String) fields.get(i));
+                removed.add(readItem((String) values.get(i)));
+            }
+        }
+
+        if (removed.isEmpty()) {
+            return removed;
+        }
+
+        Object[] members = removedIds.toArray();
+        stringRedisTemplate.opsForHash().delete(key, members);
+
+        Map<Object, Boolean> unsaved = stringRedisTemplate.opsForSet().isMember(pendingKey(memberId), members);
+        stringRedisTemplate.opsForSet().remove(pendingKey(memberId), members);
+
+        String[] saved = removedIds.stream()
+                .filter(id -> unsaved == null || !Boolean.TRUE.equals(unsaved.get(id)))
+                .toArray(String[]::new);
+        if (saved.length > 0) {
+            stringRedisTemplate.opsForSet().add(removedKey(memberId), saved);
+            stringRedisTemplate.opsForSet().add(DIRTY_MEMBERS_KEY, String.valueOf(memberId));
+        }
+        return removed;
+    }
+
+    // 예약으로 전환되어 DB에서 삭제된 장바구니, DB에 저장할 수 없어 제외된 장바구니 - 해시에서만 제거 (트랜잭션 안에서 호출된 경우 커밋 이후)
+    public void evict(Long memberId, List<Long> basketIds) {
+        TransactionCallbacks.afterCommit(() -> {
+            try {
+                stringRedisTemplate.opsForHash().delete(itemsKey(memberId), basketIds.stream().map(String::valueOf).toArray());
+            } catch (DataAccessException e) {
+                log.warn("Basket cache evict failed - member_id : {}, error : {}", memberId, e.getMessage());
+            }
+        });
+    }
+
+    public Long nextId() {
+        return nextIds(1).get(0);
+    }
+
+    // count 개의 연속된 id를 INCRBY 1회로 발급
+    public List<Long> nextIds(int count) {
+        Long last = stringRedisTemplate.opsForValue().increment(ID_SEQUENCE_KEY, count);
+
+        if (last == null || last - count < idFloor) { // 카운터 유실 - 이 인스턴스가 마지막으로 발급한 id 이후부터 다시 발급
+            ensureIdFloor(idFloor);
+            last = stringRedisTemplate.opsForValue().increment(ID_SEQUENCE_KEY, count);
+        }
+
+        idFloor = Math.max(idFloor, last);
+
+        List<Long> ids = new ArrayList<>(count);
+        for (long id = last - count + 1; id <= last; id++) {
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    public void ensureIdFloor(long floor) {
+        idFloor = Math.max(idFloor, floor);
+        stringRedisTemplate.execute(ID_FLOOR_SCRIPT, List.of(ID_SEQUENCE_KEY), String.valueOf(idFloor));
+    }
+
+    /**
+     * 회원 변경을 꺼내서(popChanges) 커밋할 때까지 잡는 잠금 (인스턴스 간 공유)
+     * 다른 쓰레드 & 인스턴스가 꺼낸 변경이 커밋되기 전에 예약 전환이 DB를 조회하지 않도록 회원별 반영을 직렬화
+     * Redis 장애 시에는 잠금 없이 진행 (변경 내역도 꺼낼 수 없으므로 반영할 것이 없음)
+     */
+    public boolean tryLockFlush(Long memberId, String owner) {
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(flushLockKey(memberId), owner, FLUSH_LOCK_TTL));
+        } catch (DataAccessException e) {
+            log.warn("Basket flush lock failed - member_id : {}, error : {}", memberId, e.getMessage());
+            return true;
+        }
+    }
+
+    public void unlockFlush(Long memberId, String owner) {
+        try {
+            if (owner.equals(stringRedisTemplate.opsForValue().get(flushLockKey(memberId)))) {
+                stringRedisTemplate.delete(flushLockKey(memberId));
+            }
+        } catch (DataAccessException e) {
+            log.warn("Basket flush unlock failed - member_id : {}, error : {}", memberId, e.getMessage());
+        }
+    }
+
+    // 다른 곳에서 반영 중이라 이번에 처리하지 못한 회원 - 다음 실행에서 다시 처리
+    public void markDirty(Long memberId) {
+        stringRedisTemplate.opsForSet().add(DIRTY_MEMBERS_KEY, String.valueOf(memberId));
+    }
+
+    public List<Long> popDirtyMembers(int count) {
+        List<String> members = stringRedisTemplate.opsForSet().pop(DIRTY_MEMBERS_KEY, count);
+
+        return members == null ? List.of() : members.stream().map(Long::valueOf).toList();
+    }
+
+    // 회원의 DB 반영 대상을 꺼냄 - 저장 실패 시 restore 로 되돌림
+    public BasketChanges popChanges(Long memberId) {
+        List<String> pendingIds = popAll(pendingKey(memberId));
+        List<String> removedIds = popAll(removedKey(memberId));
+
+        List<BasketItem> added = new ArrayList<>();
+        if (!pendingIds.isEmpty()) {
+            List<Object> values = stringRedisTemplate.opsForHash().multiGet(itemsKey(memberId), new ArrayList<>(pendingIds));
+            values.stream()
+                    .filter(Objects::nonNull)
+                    .forEach(value -> added.add(readItem((String) value)));
+        }
+
+        return new BasketChanges(memberId, added, removedIds.stream().map(Long::valueOf).toList());
+    }
+
+    public void restore(BasketChanges changes) {
+        Long memberId = changes.memberId();
+
+        changes.added().forEach(item -> stringRedisTemplate.opsForSet().add(pendingKey(memberId), String.valueOf(item.getId())));
+        changes.removedIds().forEach(id -> stringRedisTemplate.opsForSet().add(removedKey(memberId), String.valueOf(id)));
+        stringRedisTemplate.opsForSet().add(DIRTY_MEMBERS_KEY, String.valueOf(memberId));
+    }
+
+    private List<String> popAll(String key) {
+        Long size = stringRedisTemplate.opsForSet().size(key);
+
+        if (size == null || size == 0) {
+            return List.of();
+        }
+
+        List<String> values = stringRedisTemplate.opsForSet().pop(key, size);
+        return values == null ? List.of() : values;
+    }
+
+    private String writeItem(BasketItem item) {
+        try {
+            return objectMapper.writeValueAsString(item);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Basket item serialization failed", e);
+        }
+    }
+
+    private BasketItem readItem(String value) {
+        try {
+            return objectMapper.readValue(value, BasketItem.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Basket item deserialization failed", e);
+        }
+    }
+
+    private static String itemsKey(Long memberId) {
+        return KEY_PREFIX + memberId + ":items";
+    }
+
+    private static String pendingKey(Long memberId) {
+        return KEY_PREFIX + memberId + ":pending";
+    }
+
+    private static String removedKey(Long memberId) {
+        return KEY_PREFIX + memberId + ":removed";
+    }
+
+    private static String flushLockKey(Long memberId) {
+        return KEY_PREFIX + memberId + ":flush-lock";
+    }
+
+    public record BasketChanges(Long memberId, List<BasketItem> added, List<Long> removedIds) {
+
+        public boolean isEmpty() {
+            return added.isEmpty() && removedIds.isEmpty();
+        }
+    }
+}
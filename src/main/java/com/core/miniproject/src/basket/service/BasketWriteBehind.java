@@ -0,0 +1,176 @@
+package com.core.miniproject.src.basket.service;
+
+import com.core.miniproject.src.basket.domain.dto.BasketItem;
+import com.core.miniproject.src.basket.domain.entity.Basket;
+import com.core.miniproject.src.basket.repository.BasketRepository;
+import com.core.miniproject.src.basket.service.BasketStore.BasketChanges;
+import com.core.miniproject.src.common.exception.BaseException;
+import com.core.miniproject.src.member.repository.MemberRepository;
+import com.core.miniproject.src.room.repository.RoomRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.core.miniproject.src.common.response.BaseResponseStatus.BASKET_FLUSH_IN_PROGRESS;
+
+/**
+ * Redis 장바구니(BasketStore)의 추가 & 삭제를 모아 basket 테이블에 일괄 반영(write-behind)
+ * 여러 회원의 변경을 한 트랜잭션에서 배치 INSERT & IN 삭제로 처리
+ */
+@Slf4j
+@Component
+public class BasketWriteBehind {
+
+    private static final int MEMBER_BATCH_SIZE = 100;
+    private static final long FLUSH_WAIT_MILLIS = 5000;
+    private static final long LOCK_RETRY_MILLIS = 50;
+
+    private final BasketStore basketStore;
+    private final BasketRepository basketRepository;
+    private final MemberRepository memberRepository;
+    private final RoomRepository roomRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public BasketWriteBehind(BasketStore basketStore,
+                             BasketRepository basketRepository,
+                             MemberRepository memberRepository,
+                             RoomRepository roomRepository,
+                             PlatformTransactionManager transactionManager) {
+        this.basketStore = basketStore;
+        this.basketRepository = basketRepository;
+        this.memberRepository = memberRepository;
+        this.roomRepository = roomRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW); // 예약 전환 트랜잭션과 별도로 커밋
+    }
+
+    // 장바구니 id 카운터가 DB에 저장된 id 이후부터 발급되도록 기준값 설정
+    @EventListener(ApplicationReadyEvent.class)
+    public void initIdSequence() {
+        basketStore.ensureIdFloor(basketRepository.findMaxId());
+    }
+
+    // 예약 전환 중인 회원(잠금을 얻지 못한 회원)은 건너뛰고 다음 실행에서 다시 처리
+    @Scheduled(fixedDelay = 2000)
+    public void flush() {
+        String owner = UUID.randomUUID().toString();
+        List<Long> memberIds;
+
+        while (!(memberIds = basketStore.popDirtyMembers(MEMBER_BATCH_SIZE)).isEmpty()) {
+            List<Long> locked = new ArrayList<>();
+            for (Long memberId : memberIds) {
+                if (basketStore.tryLockFlush(memberId, owner)) {
+                    locked.add(memberId);
+                } else {
+                    basketStore.markDirty(memberId);
+                }
+            }
+
+            try {
+                flush(locked);
+            } finally {
+                locked.forEach(memberId -> basketStore.unlockFlush(memberId, owner));
+            }
+        }
+    }
+
+    /**
+     * 예약 전환 전 호출(트랜잭션 밖) - 해당 회원의 변경을 바로 반영
+     * 다른 쓰레드 & 인스턴스가 이미 꺼내서 반영 중인 변경이 있으면 커밋될 때까지(잠금이 풀릴 때까지) 대기
+     * 대기 시간 안에 잠금을 얻지 못하면 반영되지 않은 변경이 있을 수 있으므로 예외 (DB 장바구니만 보고 전환 X)
+     */
+    public void flush(Long memberId) {
+        String owner = UUID.randomUUID().toString();
+
+        if (!awaitLock(memberId, owner)) {
+            log.warn("Basket flush lock wait timed out - member_id : {}", memberId);
+            throw new BaseException(BASKET_FLUSH_IN_PROGRESS);
+        }
+
+        try {
+            flush(List.of(memberId));
+        } finally {
+            basketStore.unlockFlush(memberId, owner);
+        }
+    }
+
+    private boolean awaitLock(Long memberId, String owner) {
+        long deadline = System.currentTimeMillis() + FLUSH_WAIT_MILLIS;
+
+        while (!basketStore.tryLockFlush(memberId, owner)) {
+            if (System.currentTimeMillis() >= deadline) {
+                return false;
+            }
+            try {
+                Thread.sleep(LOCK_RETRY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void flush(List<Long> memberIds) {
+        List<BasketChanges> changes = memberIds.stream()
+                .map(basketStore::popChanges)
+                .filter(change -> !change.isEmpty())
+                .toList();
+
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        write(changes);
+    }
+
+    private void write(List<BasketChanges> changes) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> save(changes));
+        } catch (DataIntegrityViolationException e) {
+            if (changes.size() > 1) { // 어느 회원의 변경이 원인인지 알 수 없으므로 회원별로 다시 저장해 실패한 회원만 제외
+                changes.forEach(change -> write(List.of(change)));
+                return;
+            }
+            // 탈퇴 회원, 삭제된 객실 등 - 재시도해도 실패하므로 제외하고, 저장되지 않은 항목은 Redis 장바구니에서도 제거
+            BasketChanges dropped = changes.get(0);
+            log.error("Basket write-behind dropped - member : {}, error : {}", dropped.memberId(), e.getMessage());
+            if (!dropped.added().isEmpty()) {
+                basketStore.evict(dropped.memberId(), dropped.added().stream().map(BasketItem::getId).toList());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Basket write-behind failed, retry later - members : {}, error : {}",
+                    changes.stream().map(BasketChanges::memberId).toList(), e.getMessage());
+            changes.forEach(basketStore::restore);
+        }
+    }
+
+    private void save(List<BasketChanges> changes) {
+        List<Basket> added = new ArrayList<>();
+        List<Long> removedIds = new ArrayList<>();
+
+        for (BasketChanges change : changes) {
+            change.added().forEach(item -> added.add(Basket.create(item,
+                    memberRepository.getReferenceById(item.getMemberId()),
+                    roomRepository.getReferenceById(item.getRoomId()))));
+            removedIds.addAll(change.removedIds());
+        }
+
+        if (!added.isEmpty()) {
+            basketRepository.saveAllAndFlush(added);
+        }
+        if (!removedIds.isEmpty()) {
+            basketRepository.deleteAllByIdInBatch(removedIds);
+        }
+    }
+}
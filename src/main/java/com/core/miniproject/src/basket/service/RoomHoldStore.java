@@ -0,0 +1,159 @@
+package com.core.miniproject.src.basket.service;
+
+import com.core.miniproject.src.common.util.TransactionCallbacks;
+import com.core.miniproject.src.reservation.model.entity.RoomNight;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 장바구니에 담긴 객실의 임시 선점(기본 10분)
+ * 객실 & 숙박일별 키(room-hold:{roomId}:{night})에 회원 id를 TTL 과 함께 저장해 만료 시 자동 해제 (DB 정리 작업 X)
+ * 숙소 검색에서 빠르게 조회할 수 있도록 숙박일별 ZSET(score = 만료 시각)에 선점된 객실 id도 함께 저장
+ */
+@Slf4j
+@Component
+public class RoomHoldStore {
+
+    private static final String HOLD_KEY_PREFIX = "room-hold:";
+    private static final String NIGHT_KEY_PREFIX = "room-hold-night:";
+    private static final Duration HOLD_TTL = Duration.ofMinutes(10);
+
+    // 모든 숙박일이 비어 있거나 같은 회원이 선점한 경우에만 한 번에 선점(일부만 선점되는 경우 X)
+    // 숙박일별 ZSET 은 선점마다 만료 시간이 연장되므로 만료된 항목을 먼저 제거 (예약이 몰리는 날짜의 ZSET 이 계속 커지지 않도록)
+    private static final RedisScript<Long> HOLD_SCRIPT = new DefaultRedisScript<>("""
+            local count = tonumber(ARGV[5])
+            for i = 1, count do
+                local owner = redis.call('GET', KEYS[i])
+                if owner and owner ~= ARGV[1] then
+                    return 0
+                end
+            end
+            for i = 1, count do
+                redis.call('SET', KEYS[i], ARGV[1], 'PX', ARGV[2])
+                redis.call('ZREMRANGEBYSCORE', KEYS[count + i], '-inf', ARGV[6])
+                redis.call('ZADD', KEYS[count + i], ARGV[3], ARGV[4])
+                redis.call('PEXPIRE', KEYS[count + i], ARGV[2])
+            end
+            return 1
+            """, Long.class);
+
+    // 본인이 선점한 숙박일만 해제
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            local count = tonumber(ARGV[3])
+            local released = 0
+            for i = 1, count do
+                if redis.call('GET', KEYS[i]) == ARGV[1] then
+                    redis.call('DEL', KEYS[i])
+                    redis.call('ZREM', KEYS[count + i], ARGV[2])
+                    released = released + 1
+                end
+            end
+            return released
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public RoomHoldStore(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    /**
+     * @return 선점 성공 여부 - 다른 회원이 하루라도 선점 중이면 false
+     */
+    public boolean hold(Long roomId, LocalDate checkIn, LocalDate checkOut, Long memberId) {
+        List<LocalDate> nights = RoomNight.nightsOf(checkIn, checkOut);
+        long now = System.currentTimeMillis();
+        long expiresAt = now + HOLD_TTL.toMillis();
+
+        try {
+            Long result = stringRedisTemplate.execute(HOLD_SCRIPT, keys(roomId, nights),
+                    String.valueOf(memberId),
+                    String.valueOf(HOLD_TTL.toMillis()),
+                    String.valueOf(expiresAt),
+                    String.valueOf(roomId),
+                    String.valueOf(nights.size()),
+                    String.valueOf(now));
+
+            return Long.valueOf(1).equals(result);
+        } catch (DataAccessException e) { // Redis 장애 시 선점 없이 진행(예약 시점의 중복 확인으로 보호)
+            log.warn("Room hold failed - room_id : {}, error : {}", roomId, e.getMessage());
+            return true;
+        }
+    }
+
+    // 예약으로 전환된 경우 선점 해제 (트랜잭션 안에서 호출된 경우 커밋 이후)
+    public void release(Long roomId, LocalDate checkIn, LocalDate checkOut, Long memberId) {
+        List<LocalDate> nights = RoomNight.nightsOf(checkIn, checkOut);
+
+        TransactionCallbacks.afterCommit(() -> {
+            try {
+                stringRedisTemplate.execute(RELEASE_SCRIPT, keys(roomId, nights),
+                        String.valueOf(memberId), String.valueOf(roomId), String.valueOf(nights.size()));
+            } catch (DataAccessException e) {
+                log.warn("Room hold release failed - room_id : {}, error : {}", roomId, e.getMessage());
+            }
+        });
+    }
+
+    // 다른 회원이 하루라도 선점 중인지 확인
+    public boolean isHeldByOther(Long roomId, LocalDate checkIn, LocalDate checkOut, Long memberId) {
+        List<String> holdKeys = RoomNight.nightsOf(checkIn, checkOut).stream()
+                .map(night -> holdKey(roomId, night))
+                .toList();
+
+        try {
+            List<String> owners = stringRedisTemplate.opsForValue().multiGet(holdKeys);
+
+            return owners != null && owners.stream()
+                    .anyMatch(owner -> owner != null && !owner.equals(String.valueOf(memberId)));
+        } catch (DataAccessException e) {
+            log.warn("Room hold read failed - room_id : {}, error : {}", roomId, e.getMessage());
+            return false;
+        }
+    }
+
+    // 숙소 검색용 - 기간 중 하루라도 선점된 객실 id (만료 시각이 지난 항목은 제거 후 조회)
+    public Set<Long> findHeldRoomIds(LocalDate checkIn, LocalDate checkOut) {
+        double now = System.currentTimeMillis();
+        Set<Long> heldRoomIds = new HashSet<>();
+
+        try {
+            for (LocalDate night : RoomNight.nightsOf(checkIn, checkOut)) {
+                String key = nightKey(night);
+                stringRedisTemplate.opsForZSet().removeRangeByScore(key, Double.NEGATIVE_INFINITY, now);
+                Set<String> roomIds = stringRedisTemplate.opsForZSet().rangeByScore(key, now, Double.MAX_VALUE);
+
+                if (roomIds != null) {
+                    roomIds.forEach(roomId -> heldRoomIds.add(Long.valueOf(roomId)));
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("Room hold search failed - error : {}", e.getMessage());
+        }
+
+        return heldRoomIds;
+    }
+
+    private static List<String> keys(Long roomId, List<LocalDate> nights) {
+        List<String> keys = new ArrayList<>(nights.size() * 2);
+        nights.forEach(night -> keys.add(holdKey(roomId, night)));
+        nights.forEach(night -> keys.add(nightKey(night)));
+        return keys;
+    }
+
+    private static String holdKey(Long roomId, LocalDate night) {
+        return HOLD_KEY_PREFIX + roomId + ":" + night;
+    }
+
+    private static String nightKey(LocalDate night) {
+        return NIGHT_KEY_PREFIX + night;
+    }
+}
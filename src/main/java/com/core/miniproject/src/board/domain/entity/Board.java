@@ -18,7 +18,8 @@ import java.util.List;
 public class Board {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "board_seq_generator")
+    @SequenceGenerator(name = "board_seq_generator", sequenceName = "board_seq", allocationSize = 50)
     @Column(name="board_id")
     private Long id;
 
@@ -23,13 +23,15 @@ public class DateParamDefaultValueAspect {
 //         checkIn과 checkOut이 null인 경우 기본값으로 설정
 
         try {
-            LocalDate checkIn = args[0] != null ? (LocalDate) args[0] : LocalDate.now();
-            LocalDate checkOut = args[1] != null ? (LocalDate) args[1] : LocalDate.now().plusDays(1);
-            String locationType = args[2] != null ? (String) args[2] : "서울";
-            String accommodationType = args[3] != null ? (String) args[3] : "호텔";
-            int fixedMember = args[4] != null ? (int) args[4] : 2;
+            Object[] newArgs = args.clone(); // 기본값 대상(0 ~ 4번째) 이외의 파라미터는 그대로 전달
 
-        return joinPoint.proceed(new Object[]{checkIn, checkOut, locationType, accommodationType, fixedMember, args[5], args[6]});
+            newArgs[0] = args[0] != null ? (LocalDate) args[0] : LocalDate.now();
+            newArgs[1] = args[1] != null ? (LocalDate) args[1] : LocalDate.now().plusDays(1);
+            newArgs[2] = args[2] != null ? (String) args[2] : "서울";
+            newArgs[3] = args[3] != null ? (String) args[3] : "호텔";
+            newArgs[4] = args[4] != null ? (int) args[4] : 2;
+
+            return joinPoint.proceed(newArgs);
 
         } catch (DateTimeParseException | NumberFormatException e) {
             throw new BaseException(BaseResponseStatus.TYPE_MISMATCH);
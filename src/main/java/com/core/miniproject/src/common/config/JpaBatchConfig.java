@@ -0,0 +1,22 @@
+package com.core.miniproject.src.common.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 시퀀스 id를 사용하는 엔티티의 INSERT / UPDATE 를 JDBC 배치로 묶어서 실행 (설정 파일에 값이 있으면 해당 값 우선)
+@Configuration
+public class JpaBatchConfig {
+
+    private static final int BATCH_SIZE = 100;
+
+    @Bean
+    public HibernatePropertiesCustomizer batchPropertiesCustomizer() {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, BATCH_SIZE);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
+}
@@ -1,5 +1,6 @@
 package com.core.miniproject.src.common.config;
 
+import com.core.miniproject.src.accommodation.domain.dto.AccommodationAllResponse;
 import com.core.miniproject.src.common.security.jwt.RefreshToken;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -23,4 +24,14 @@ public class RedisConfig {
         redisTemplate.setValueSerializer(new Jackson2JsonRedisSerializer<>(RefreshToken.class));
         return redisTemplate;
     }
+
+    // 숙소 검색 결과 캐시용
+    @Bean
+    public RedisTemplate<String, AccommodationAllResponse> searchCacheRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
+        RedisTemplate<String, AccommodationAllResponse> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(redisConnectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new Jackson2JsonRedisSerializer<>(AccommodationAllResponse.class));
+        return redisTemplate;
+    }
 }
@@ -0,0 +1,80 @@
+package com.core.miniproject.src.common.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.metamodel.EntityType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.MappingMetamodel;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Field;
+
+/**
+ * 시퀀스 id 엔티티의 시퀀스를 테이블의 최대 id 이후로 맞춤
+ * MySQL 은 시퀀스를 {이름} 테이블(next_val)로 흉내내며 ddl-auto 로 새로 생성되면 1부터 시작 - IDENTITY 로 저장된 기존 id와 충돌
+ * 웹 서버가 요청을 받기 전(빈 초기화 단계)에 실행되고, 이미 앞서 있는 시퀀스는 변경하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SequenceSeeder {
+
+    private final EntityManagerFactory entityManagerFactory; // ddl-auto 로 시퀀스 테이블이 생성된 이후 실행되도록 주입
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void seed() {
+        if (!isMySql()) { // H2 등 네이티브 시퀀스를 쓰는 환경은 테스트 & 로컬 전용
+            return;
+        }
+
+        MappingMetamodel metamodel = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getMappingMetamodel();
+
+        for (EntityType<?> entity : entityManagerFactory.getMetamodel().getEntities()) {
+            SequenceGenerator generator = sequenceGeneratorOf(entity.getJavaType());
+            if (generator == null) {
+                continue;
+            }
+
+            AbstractEntityPersister persister = (AbstractEntityPersister) metamodel.getEntityDescriptor(entity.getJavaType());
+            seed(generator.sequenceName(), generator.allocationSize(), persister.getTableName(), persister.getIdentifierColumnNames()[0]);
+        }
+    }
+
+    // pooled 최적화는 next_val 을 받아 (next_val - allocationSize, next_val] 범위를 사용하므로 최대 id + allocationSize 이상이어야 함
+    private void seed(String sequenceName, int allocationSize, String tableName, String idColumn) {
+        Long maxId = jdbcTemplate.queryForObject("select coalesce(max(" + idColumn + "), 0) from " + tableName, Long.class);
+        long floor = (maxId == null ? 0 : maxId) + allocationSize;
+
+        int updated = jdbcTemplate.update("update " + sequenceName + " set next_val = ? where next_val < ?", floor, floor);
+
+        if (updated > 0) {
+            log.info("Sequence seeded - sequence : {}, next_val : {}", sequenceName, floor);
+        }
+    }
+
+    private boolean isMySql() {
+        String productName = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+
+        return productName != null && productName.toLowerCase().contains("mysql");
+    }
+
+    private static SequenceGenerator sequenceGeneratorOf(Class<?> entityType) {
+        for (Class<?> type = entityType; type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (field.isAnnotationPresent(Id.class) && field.isAnnotationPresent(SequenceGenerator.class)) {
+                    return field.getAnnotation(SequenceGenerator.class);
+                }
+            }
+        }
+        return null;
+    }
+}
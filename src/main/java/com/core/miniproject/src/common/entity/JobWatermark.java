@@ -0,0 +1,24 @@
+package com.core.miniproject.src.common.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 스케줄 작업별 마지막 처리 기준일 - 다음 실행 시 이 날짜 이후 데이터만 처리
+ */
+@Entity
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "job_watermark")
+public class JobWatermark {
+
+    @Id
+    @Column(name = "job_name")
+    private String jobName;
+
+    @Column(name = "watermark", nullable = false)
+    private LocalDate watermark;
+}
@@ -0,0 +1,24 @@
+package com.core.miniproject.src.common.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 집계별 outbox 이벤트 버전 - 이벤트 저장 트랜잭션에서 이 행을 잠근 채 버전을 올려, 같은 집계의 이벤트 버전이 커밋 순서와 일치
+ * (이벤트 id 는 인스턴스별로 미리 할당받은 구간에서 발급되므로 저장 & 커밋 순서와 다를 수 있음)
+ */
+@Entity
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "outbox_aggregate_version")
+public class OutboxAggregateVersion {
+
+    // {aggregate_type}:{aggregate_id}
+    @Id
+    @Column(name = "aggregate_key", length = 100)
+    private String aggregateKey;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+}
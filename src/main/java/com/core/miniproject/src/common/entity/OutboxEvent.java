@@ -0,0 +1,64 @@
+package com.core.miniproject.src.common.entity;
+
+import com.core.miniproject.src.common.outbox.DomainEventType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 도메인 변경 이벤트(outbox) - 변경 데이터와 같은 트랜잭션에 저장되고 OutboxRelay 가 비동기로 전달
+ * 전달 완료 시 published_at 기록, 실패 시 attempts 증가 & next_attempt_at 까지 재전달 보류(at-least-once)
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "outbox_event", indexes = {
+        @Index(name = "IX_outbox_event_published_at", columnList = "published_at, outbox_event_id"),
+        @Index(name = "IX_outbox_event_aggregate", columnList = "aggregate_type, aggregate_id, aggregate_version")
+})
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_event_seq_generator")
+    @SequenceGenerator(name = "outbox_event_seq_generator", sequenceName = "outbox_event_seq", allocationSize = 50)
+    @Column(name = "outbox_event_id")
+    private Long id;
+
+    @Column(name = "aggregate_type", nullable = false)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    // 같은 집계 안에서의 순서 (OutboxAggregateVersion) - 전달 순서는 id 가 아닌 이 값 기준
+    @Column(name = "aggregate_version")
+    private Long aggregateVersion;
+
+    @Column(name = "event_type", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private DomainEventType eventType;
+
+    @Column(name = "payload", columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    // 재전달 가능 시각 - null 이면 바로 전달
+    @Column(name = "next_attempt_at", columnDefinition = "TIMESTAMP")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "TIMESTAMP")
+    private LocalDateTime createdAt;
+
+    @Column(name = "published_at", columnDefinition = "TIMESTAMP")
+    private LocalDateTime publishedAt;
+
+    // 같은 집계(숙소, 객실, 예약 등) 이벤트끼리 순서를 보장하기 위한 키
+    public String aggregateKey() {
+        return aggregateType + ":" + aggregateId;
+    }
+}
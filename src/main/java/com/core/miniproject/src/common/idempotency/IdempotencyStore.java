@@ -0,0 +1,155 @@
+package com.core.miniproject.src.common.idempotency;
+
+import com.core.miniproject.src.common.exception.BaseException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static com.core.miniproject.src.common.response.BaseResponseStatus.IDEMPOTENCY_KEY_REUSED;
+import static com.core.miniproject.src.common.response.BaseResponseStatus.IDEMPOTENCY_REQUEST_IN_PROGRESS;
+
+/**
+ * Idempotency-Key 헤더 기반 중복 요청 처리
+ * 처리 중인 키는 요청 처리 제한 시간 기준 TTL 로 선점하고, 처리가 끝난 키는 응답을 저장해 같은 키로 재요청 시 서비스 호출 없이 저장된 응답 반환
+ * 키와 함께 요청 본문 해시를 저장해 같은 키로 다른 요청이 들어오면 거절
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyStore {
+
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final String IN_PROGRESS_PREFIX = "IN_PROGRESS:";
+    private static final String COMPLETED_PREFIX = "COMPLETED:";
+
+    // 처리 제한 시간이 지난 뒤 저장 & 응답 직렬화까지 끝날 여유
+    private static final Duration IN_PROGRESS_MARGIN = Duration.ofSeconds(30);
+    private static final Duration COMPLETED_TTL = Duration.ofHours(24);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param scope 요청 종류(API) 구분 - 같은 키라도 API 가 다르면 별도로 처리
+     * @param idempotencyKey 값이 없으면 중복 처리 없이 바로 실행
+     * @param request 같은 키로 다른 요청이 들어왔는지 비교할 요청 본문
+     * @param processingTimeout 요청 처리 제한 시간 - 처리 중 선점이 먼저 만료되어 같은 요청이 두 번 실행되지 않도록 선점 TTL 산정에 사용
+     */
+    public <T> T execute(String scope, Long memberId, String idempotencyKey, Object request, Duration processingTimeout,
+                         TypeReference<T> responseType, Supplier<T> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+
+        String key = KEY_PREFIX + scope + ":" + memberId + ":" + idempotencyKey;
+        String fingerprint = fingerprint(request);
+
+        try {
+            Optional<T> completed = findCompleted(key, fingerprint, responseType);
+            if (completed.isPresent()) {
+                return completed.get();
+            }
+
+            Boolean acquired = stringRedisTemplate.opsForValue()
+                    .setIfAbsent(key, IN_PROGRESS_PREFIX + fingerprint, processingTimeout.plus(IN_PROGRESS_MARGIN));
+            if (!Boolean.TRUE.equals(acquired)) {
+                // 선점 직전에 완료된 경우 저장된 응답 반환, 아직 처리 중이면 409
+                return findCompleted(key, fingerprint, responseType)
+                        .orElseThrow(() -> new BaseException(IDEMPOTENCY_REQUEST_IN_PROGRESS));
+            }
+        } catch (DataAccessException e) { // Redis 장애 시 중복 처리 없이 실행
+            log.warn("Idempotency store unavailable - key : {}, error : {}", key, e.getMessage());
+            return action.get();
+        }
+
+        T response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) { // 실패한 요청은 같은 키로 다시 시도할 수 있도록 선점 해제
+            release(key);
+            throw e;
+        }
+
+        complete(key, fingerprint, response);
+        return response;
+    }
+
+    // 저장된 요청 해시가 다르면 다른 요청에 키를 재사용한 것으로 보고 거절 (처리 중 & 완료 모두)
+    private <T> Optional<T> findCompleted(String key, String fingerprint, TypeReference<T> responseType) {
+        String value = stringRedisTemplate.opsForValue().get(key);
+
+        if (value == null) {
+            return Optional.empty();
+        }
+
+        if (value.startsWith(IN_PROGRESS_PREFIX)) {
+            verifyFingerprint(fingerprint, value.substring(IN_PROGRESS_PREFIX.length()));
+            return Optional.empty();
+        }
+
+        if (!value.startsWith(COMPLETED_PREFIX)) {
+            return Optional.empty();
+        }
+
+        // COMPLETED:{요청 해시}:{응답 JSON}
+        String stored = value.substring(COMPLETED_PREFIX.length());
+        int separator = stored.indexOf(':');
+        if (separator < 0) {
+            return Optional.empty();
+        }
+        verifyFingerprint(fingerprint, stored.substring(0, separator));
+
+        try {
+            return Optional.of(objectMapper.readValue(stored.substring(separator + 1), responseType));
+        } catch (JsonProcessingException e) {
+            log.warn("Idempotency stored response parse failed - key : {}, error : {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void verifyFingerprint(String fingerprint, String storedFingerprint) {
+        if (!fingerprint.equals(storedFingerprint)) {
+            throw new BaseException(IDEMPOTENCY_KEY_REUSED);
+        }
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(request);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Idempotency request fingerprint failed", e);
+        }
+    }
+
+    private void complete(String key, String fingerprint, Object response) {
+        try {
+            stringRedisTemplate.opsForValue().set(key,
+                    COMPLETED_PREFIX + fingerprint + ":" + objectMapper.writeValueAsString(response), COMPLETED_TTL);
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("Idempotency response store failed - key : {}, error : {}", key, e.getMessage());
+            release(key);
+        }
+    }
+
+    private void release(String key) {
+        try {
+            stringRedisTemplate.delete(key);
+        } catch (DataAccessException e) {
+            log.warn("Idempotency key release failed - key : {}, error : {}", key, e.getMessage());
+        }
+    }
+}
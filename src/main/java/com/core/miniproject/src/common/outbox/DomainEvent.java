@@ -0,0 +1,10 @@
+package com.core.miniproject.src.common.outbox;
+
+/**
+ * 리스너에 전달되는 이벤트 - eventId 는 outbox id (재전달 시 같은 값, 중복 처리 판단용)
+ */
+public record DomainEvent(Long eventId,
+                          DomainEventType type,
+                          Long aggregateId,
+                          DomainEventPayload payload) {
+}
@@ -0,0 +1,13 @@
+package com.core.miniproject.src.common.outbox;
+
+/**
+ * OutboxRelay 가 전달하는 도메인 이벤트 수신기 - 빈으로 등록하면 자동으로 전달 대상에 포함
+ * 같은 이벤트가 두 번 이상 전달될 수 있으므로(at-least-once) 처리는 멱등해야 함
+ * 예외를 던지면 해당 이벤트와 같은 집계의 이후 이벤트는 다음 실행에서 재전달
+ */
+public interface DomainEventListener {
+
+    boolean supports(DomainEventType type);
+
+    void onEvent(DomainEvent event);
+}
@@ -0,0 +1,16 @@
+package com.core.miniproject.src.common.outbox;
+
+import com.core.miniproject.src.accommodation.domain.entity.AccommodationType;
+import com.core.miniproject.src.location.domain.entity.LocationType;
+
+import java.time.LocalDate;
+
+/**
+ * 이벤트 내용 - 변경이 영향을 주는 숙소와 기간(예약 이벤트만, 나머지는 null)
+ */
+public record DomainEventPayload(Long accommodationId,
+                                 LocationType locationType,
+                                 AccommodationType accommodationType,
+                                 LocalDate checkIn,
+                                 LocalDate checkOut) {
+}
@@ -0,0 +1,22 @@
+package com.core.miniproject.src.common.outbox;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum DomainEventType {
+
+    RESERVATION_CREATED("RESERVATION"),
+    RESERVATION_CANCELED("RESERVATION"),
+    ROOM_CREATED("ROOM"),
+    ROOM_UPDATED("ROOM"),
+    ROOM_DELETED("ROOM"),
+    RATE_CREATED("RATE"),
+    ACCOMMODATION_CREATED("ACCOMMODATION"),
+    ACCOMMODATION_UPDATED("ACCOMMODATION"),
+    ACCOMMODATION_DELETED("ACCOMMODATION"),
+    IMAGE_DERIVED("IMAGE");
+
+    private final String aggregateType;
+}
@@ -0,0 +1,72 @@
+package com.core.miniproject.src.common.outbox;
+
+import com.core.miniproject.src.accommodation.domain.entity.Accommodation;
+import com.core.miniproject.src.common.entity.OutboxEvent;
+import com.core.miniproject.src.common.repository.OutboxAggregateVersionRepository;
+import com.core.miniproject.src.common.repository.OutboxEventRepository;
+import com.core.miniproject.src.reservation.model.entity.Reservation;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 도메인 변경과 같은 트랜잭션에 outbox 이벤트 저장 - 변경이 롤백되면 이벤트도 함께 롤백
+ * 집계별 버전(OutboxAggregateVersion)을 잠근 채 발급해 같은 집계의 이벤트는 커밋 순서대로 버전이 매겨짐
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventRecorder {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxAggregateVersionRepository outboxAggregateVersionRepository;
+    private final ObjectMapper objectMapper;
+
+    // 숙소 단위 변경(숙소, 객실, 별점) - 모든 기간에 영향
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(DomainEventType type, Long aggregateId, Accommodation accommodation) {
+        record(type, aggregateId, accommodation, null, null);
+    }
+
+    // 예약 변경 - 숙박 기간에만 영향
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(DomainEventType type, Reservation reservation) {
+        record(type, reservation.getId(), reservation.getRoom().getAccommodationId(),
+                reservation.getCheckIn(), reservation.getCheckOut());
+    }
+
+    private void record(DomainEventType type, Long aggregateId, Accommodation accommodation,
+                        LocalDate checkIn, LocalDate checkOut) {
+        DomainEventPayload payload = new DomainEventPayload(
+                accommodation.getId(),
+                accommodation.getLocation().getLocationName(),
+                accommodation.getAccommodationType(),
+                checkIn,
+                checkOut);
+
+        String aggregateKey = type.getAggregateType() + ":" + aggregateId;
+        outboxAggregateVersionRepository.increaseVersion(aggregateKey);
+
+        outboxEventRepository.save(OutboxEvent.builder()
+                .aggregateType(type.getAggregateType())
+                .aggregateId(aggregateId)
+                .aggregateVersion(outboxAggregateVersionRepository.findVersion(aggregateKey))
+                .eventType(type)
+                .payload(toJson(payload))
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    private String toJson(DomainEventPayload payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Outbox payload serialization failed", e);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.core.miniproject.src.common.outbox;
+
+import com.core.miniproject.src.common.entity.OutboxEvent;
+import com.core.miniproject.src.common.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * outbox 이벤트를 저장 순서대로 모아 등록된 리스너(DomainEventListener)에 전달
+ * 여러 인스턴스 중 Redis 잠금을 얻은 인스턴스 하나만 전달하고, 같은 집계의 이벤트는 집계별 버전(aggregate_version) 순서로 전달
+ * 리스너 실패 시 지수 백오프로 재전달 시각을 미루고, 그때까지 같은 집계의 이후 이벤트도 보류(at-least-once)
+ * 재시도 한도를 넘긴 이벤트는 error 로그 & outbox.events{result=dropped} 지표로 알림
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private static final String LOCK_KEY = "outbox:relay:lock";
+    private static final Duration LOCK_TTL = Duration.ofSeconds(30);
+    private static final int BATCH_SIZE = 100;
+    private static final int MAX_ATTEMPTS = 20; // 백오프 포함 약 1시간
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(5);
+    private static final Duration RETENTION = Duration.ofDays(7);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<DomainEventListener> listeners;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final String owner = UUID.randomUUID().toString();
+
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final Counter droppedCounter;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       List<DomainEventListener> listeners,
+                       StringRedisTemplate stringRedisTemplate,
+                       ObjectMapper objectMapper,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.listeners = listeners;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.publishedCounter = meterRegistry.counter("outbox.events", "result", "published");
+        this.failedCounter = meterRegistry.counter("outbox.events", "result", "failed");
+        this.droppedCounter = meterRegistry.counter("outbox.events", "result", "dropped");
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public void relay() {
+        if (!acquireLock()) {
+            return;
+        }
+
+        // 밀린 이벤트가 남아 있으면 바로 다음 묶음 전달, 잠금이 만료되기 전에 종료
+        long deadline = System.nanoTime() + LOCK_TTL.toNanos() / 2;
+
+        try {
+            int relayed;
+            do {
+                relayed = relayBatch();
+            } while (relayed == BATCH_SIZE && System.nanoTime() < deadline);
+        } finally {
+            releaseLock();
+        }
+    }
+
+    // 전달 완료된 이벤트는 보관 기간 이후 삭제
+    @Scheduled(fixedDelay = 60 * 60 * 1000, initialDelay = 60 * 1000)
+    public void purge() {
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minus(RETENTION)));
+
+        log.info("Outbox purge - deleted : {}", deleted);
+    }
+
+    /**
+     * @return 이번 묶음에서 조회한 이벤트 수
+     */
+    private int relayBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> events = outboxEventRepository.findUnpublished(MAX_ATTEMPTS, now, PageRequest.of(0, BATCH_SIZE));
+
+        List<Long> published = new ArrayList<>();
+        Map<Integer, List<Long>> failedByAttempts = new HashMap<>(); // 재전달 시각이 시도 횟수별로 달라 묶어서 갱신
+        Set<String> blockedAggregates = new HashSet<>(); // 앞선 이벤트가 실패한 집계 - 순서 유지를 위해 이후 이벤트 보류
+
+        for (OutboxEvent event : events) {
+            if (blockedAggregates.contains(event.aggregateKey())) {
+                continue;
+            }
+
+            try {
+                dispatch(event);
+                published.add(event.getId());
+            } catch (RuntimeException e) {
+                log.warn("Outbox event dispatch failed - id : {}, type : {}, error : {}",
+                        event.getId(), event.getEventType(), e.getMessage());
+                failedByAttempts.computeIfAbsent(event.getAttempts(), attempts -> new ArrayList<>()).add(event.getId());
+                blockedAggregates.add(event.aggregateKey());
+
+                if (event.getAttempts() + 1 >= MAX_ATTEMPTS) {
+                    log.error("Outbox event dropped after max attempts - id : {}, type : {}, aggregate : {}",
+                            event.getId(), event.getEventType(), event.aggregateKey());
+                    droppedCounter.increment();
+                }
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!published.isEmpty()) {
+                outboxEventRepository.markPublished(published, LocalDateTime.now());
+            }
+            failedByAttempts.forEach((attempts, ids) ->
+                    outboxEventRepository.increaseAttempts(ids, now.plus(backoff(attempts))));
+        });
+
+        publishedCounter.increment(published.size());
+        failedCounter.increment(failedByAttempts.values().stream().mapToInt(List::size).sum());
+
+        return events.size(); // 실패한 집계는 재전달 시각까지 조회에서 빠지므로 나머지 이벤트는 계속 전달
+    }
+
+    // 1초부터 시도마다 2배, 최대 5분
+    private static Duration backoff(int attempts) {
+        Duration backoff = INITIAL_BACKOFF.multipliedBy(1L << Math.min(attempts, 20));
+        return backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff;
+    }
+
+    private void dispatch(OutboxEvent event) {
+        DomainEvent domainEvent = new DomainEvent(event.getId(), event.getEventType(), event.getAggregateId(), readPayload(event));
+
+        for (DomainEventListener listener : listeners) {
+            if (listener.supports(event.getEventType())) {
+                listener.onEvent(domainEvent);
+            }
+        }
+    }
+
+    private DomainEventPayload readPayload(OutboxEvent event) {
+        try {
+            return objectMapper.readValue(event.getPayload(), DomainEventPayload.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Outbox payload parse failed - id : " + event.getId(), e);
+        }
+    }
+
+    // Redis 장애 시에는 이번 실행을 건너뜀 - 잠금 없이 전달하면 모든 인스턴스가 동시에 전달해 순서가 깨짐
+    private boolean acquireLock() {
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, owner, LOCK_TTL));
+        } catch (DataAccessException e) {
+            log.warn("Outbox relay lock failed, skip this run - error : {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void releaseLock() {
+        try {
+            if (owner.equals(stringRedisTemplate.opsForValue().get(LOCK_KEY))) {
+                stringRedisTemplate.delete(LOCK_KEY);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Outbox relay unlock failed - error : {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.core.miniproject.src.common.repository;
+
+import com.core.miniproject.src.common.entity.JobWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JobWatermarkRepository extends JpaRepository<JobWatermark, String> {
+}
@@ -0,0 +1,28 @@
+package com.core.miniproject.src.common.repository;
+
+import com.core.miniproject.src.common.entity.OutboxAggregateVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OutboxAggregateVersionRepository extends JpaRepository<OutboxAggregateVersion, String> {
+
+    // 버전 증가(처음이면 1) - 증가한 행은 트랜잭션이 끝날 때까지 잠겨 같은 집계의 다른 이벤트 저장은 커밋 이후로 대기
+    @Modifying
+    @Query(value = """
+            insert into outbox_aggregate_version (aggregate_key, version)
+            values (:aggregateKey, 1)
+            on duplicate key update version = version + 1
+            """, nativeQuery = true)
+    int increaseVersion(@Param("aggregateKey") String aggregateKey);
+
+    @Query(value = """
+            select version
+            from outbox_aggregate_version
+            where aggregate_key = :aggregateKey
+            """, nativeQuery = true)
+    long findVersion(@Param("aggregateKey") String aggregateKey);
+}
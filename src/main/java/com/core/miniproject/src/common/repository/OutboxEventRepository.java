@@ -0,0 +1,64 @@
+package com.core.miniproject.src.common.repository;
+
+import com.core.miniproject.src.common.entity.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 저장 순서(id)대로 전달 - 재시도 한도를 넘긴 이벤트, 재전달 대기 중인 이벤트는 제외
+    // 같은 집계의 앞선 버전 이벤트가 재전달 대기 중이거나 id 가 더 커서 이번 묶음에서 뒤에 오면 이후 버전 이벤트는 보류
+    // (앞선 버전이 id 도 더 작으면 같은 묶음에서 먼저 전달되고, 실패 시 OutboxRelay 가 이후 이벤트를 건너뜀)
+    @Query("""
+            select e
+            from OutboxEvent e
+            where e.publishedAt is null
+            and e.attempts < :maxAttempts
+            and (e.nextAttemptAt is null or e.nextAttemptAt <= :now)
+            and not exists (
+                select p.id
+                from OutboxEvent p
+                where p.aggregateType = e.aggregateType
+                and p.aggregateId = e.aggregateId
+                and p.aggregateVersion < e.aggregateVersion
+                and p.publishedAt is null
+                and p.attempts < :maxAttempts
+                and (p.id > e.id or p.nextAttemptAt > :now)
+            )
+            order by e.id
+            """)
+    List<OutboxEvent> findUnpublished(@Param("maxAttempts") int maxAttempts, @Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("""
+            update OutboxEvent e
+            set e.publishedAt = :publishedAt
+            where e.id in :ids
+            """)
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    @Modifying
+    @Query("""
+            update OutboxEvent e
+            set e.attempts = e.attempts + 1,
+                e.nextAttemptAt = :nextAttemptAt
+            where e.id in :ids
+            """)
+    int increaseAttempts(@Param("ids") Collection<Long> ids, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    @Modifying
+    @Query("""
+            delete from OutboxEvent e
+            where e.publishedAt < :before
+            """)
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
@@ -47,17 +47,31 @@ public enum BaseResponseStatus {
     DUPLICATED_IMAGE(false, BAD_REQUEST.value(), "중복된 이미지 경로입니다."),
     BASKET_NOT_FOUND(false, BAD_REQUEST.value(), "장바구니에 객실이 존재하지 않습니다."),
     BASKET_IS_DUPLICATE(false, BAD_REQUEST.value(), "장바구니에는 중복된 객실을 담을 수 없습니다."),
+    BASKET_BULK_LIMIT_EXCEEDED(false, BAD_REQUEST.value(), "장바구니에는 한 번에 20개까지 담을 수 있습니다."),
 
     TYPE_MISMATCH(false, BAD_REQUEST.value(), "데이터 타입이 맞지 않습니다."),
+    INVALID_CURSOR(false, BAD_REQUEST.value(), "유효하지 않은 커서입니다."),
+    INVALID_SCROLL_SIZE(false, BAD_REQUEST.value(), "조회 개수는 1 ~ 50 사이여야 합니다."),
+    SEARCH_KEYWORD_REQUIRED(false, BAD_REQUEST.value(), "검색어를 입력해주세요."),
+    IMAGE_SIZE_NOT_FOUND(false, BAD_REQUEST.value(), "이미지 크기는 original, medium, thumbnail 중 하나여야 합니다."),
     JSON_PARSE_ERROR(false, BAD_REQUEST.value(), "유효한 JSON 데이터가 아닙니다. 전달하는 데이터 타입을 확인해주세요."),
     RESERVATION_IS_DUPLICATE(false, BAD_REQUEST.value(), "해당 객실의 예약 내역이 이미 존재합니다."),
+    IDEMPOTENCY_KEY_REUSED(false, BAD_REQUEST.value(), "이미 다른 요청에 사용된 Idempotency-Key 입니다."),
 
     EXPIRED_ACCESSTOKEN(false, UNAUTHORIZED.value(), "토큰이 만료되었습니다."),
 
+    /**
+     * 409
+     */
+    IDEMPOTENCY_REQUEST_IN_PROGRESS(false, CONFLICT.value(), "동일한 요청이 처리 중입니다. 잠시 후 다시 시도해주세요."),
+    ROOM_IS_HELD(false, CONFLICT.value(), "다른 회원이 예약을 진행 중인 객실입니다. 잠시 후 다시 시도해주세요."),
+    BASKET_FLUSH_IN_PROGRESS(false, CONFLICT.value(), "장바구니 변경 내역을 반영 중입니다. 잠시 후 다시 시도해주세요."),
+
     /**
      * 500
      */
-    INVALID_ERROR(false, INTERNAL_SERVER_ERROR.value(), "예상치 못한 에러가 발생했습니다.");
+    INVALID_ERROR(false, INTERNAL_SERVER_ERROR.value(), "예상치 못한 에러가 발생했습니다."),
+    BOOKING_TIMEOUT(false, SERVICE_UNAVAILABLE.value(), "예약 요청이 많아 처리가 지연되고 있습니다. 예약 내역을 확인해주세요.");
 
     private final boolean isSuccess;
     private final int statusCode;
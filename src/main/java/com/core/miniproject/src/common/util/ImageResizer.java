@@ -0,0 +1,75 @@
+package com.core.miniproject.src.common.util;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * 축소 이미지 생성 - WebP 인코더(ImageIO 플러그인, webp-imageio)가 등록되어 있으면 WebP, 없으면 JPEG 으로 인코딩
+ * (플러그인의 네이티브 라이브러리를 지원하지 않는 플랫폼에서는 JPEG)
+ */
+public final class ImageResizer {
+
+    private static final float QUALITY = 0.8f;
+
+    public static final String FORMAT = ImageIO.getImageWritersByFormatName("webp").hasNext() ? "webp" : "jpg";
+    public static final String CONTENT_TYPE = "webp".equals(FORMAT) ? "image/webp" : "image/jpeg";
+
+    private ImageResizer() {
+    }
+
+    // 너비가 maxWidth 를 넘으면 비율을 유지해 축소 (확대 X), 투명 영역은 흰색으로 채움
+    public static BufferedImage resize(BufferedImage source, int maxWidth) {
+        int width = Math.min(source.getWidth(), maxWidth);
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    public static byte[] encode(BufferedImage image) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(FORMAT);
+        if (!writers.hasNext()) {
+            throw new IOException("No image writer - " + FORMAT);
+        }
+
+        ImageWriter writer = writers.next();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+            writer.setOutput(imageOutputStream);
+
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (param.canWriteCompressed()) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                if (param.getCompressionType() == null) {
+                    param.setCompressionType(param.getCompressionTypes()[0]);
+                }
+                param.setCompressionQuality(QUALITY);
+            }
+
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return outputStream.toByteArray();
+    }
+}
@@ -1,72 +1,19 @@
 package com.core.miniproject.src.common.util;
 
-import com.amazonaws.services.s3.AmazonS3Client;
-import com.amazonaws.services.s3.model.CannedAccessControlList;
-import com.amazonaws.services.s3.model.PutObjectRequest;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.util.Optional;
 
-@Slf4j
 @Service
 @RequiredArgsConstructor
 public class RoomUploader {
 
-    private final AmazonS3Client amazonS3Client;
+    private final S3ImageUploader s3ImageUploader;
 
-    @Value("${spring.cloud.aws.s3.bucket}")
-    private String bucket;
-
-    // MultipartFile을 전달받아 File로 변환한 후 S3에 업로드
-    public String upload(MultipartFile multipartFile, String dirName) throws IOException {
-        File uploadFile = convert(multipartFile)
-                .orElseThrow(() -> new IllegalArgumentException("MultipartFile -> File 전환 실패"));
-
-        return upload(uploadFile, dirName);
-    }
-
-    private String upload(File uploadFile, String dirName) {
-        String fileName = dirName + "/" + uploadFile.getName();
-        String uploadImageUrl = putS3(uploadFile, fileName);
-
-        removeNewFile(uploadFile); // convert()함수로 인해서 로컬에 생성된 File 삭제
-
-        return uploadImageUrl;
-    }
-
-    private String putS3(File uploadFile, String fileName) {
-        amazonS3Client.putObject(
-                new PutObjectRequest(bucket, fileName, uploadFile)
-                        .withCannedAcl(CannedAccessControlList.PublicRead) // PublicRead 권한으로 업로드 됨
-        );
-        return amazonS3Client.getUrl(bucket, fileName).toString(); // 업로드된 이미지의 url
-    }
-
-    private void removeNewFile(File uploadFile) {
-
-        if(uploadFile.delete()) {
-            log.info("로컬 파일이 삭제되었습니다.");
-        }else {
-            log.info("로컬 파일이 삭제되지 않았습니다.");
-        }
-    }
-
-    private Optional<File> convert(MultipartFile file) throws IOException {
-        File convertFile = new File(file.getOriginalFilename()); // 업로드한 파일의 이름
-
-        if (convertFile.createNewFile()) {
-            try (FileOutputStream fos = new FileOutputStream(convertFile)) {
-                fos.write(file.getBytes());
-            }
-            return Optional.of(convertFile);
-        }
-        return Optional.empty();
+    // MultipartFile을 로컬 파일로 변환하지 않고 S3에 바로 업로드
+    public String upload(MultipartFile multipartFile) throws IOException {
+        return s3ImageUploader.upload(multipartFile); // 업로드된 이미지의 url
     }
 }
@@ -0,0 +1,355 @@
+package com.core.miniproject.src.common.util;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+import com.amazonaws.services.s3.transfer.Upload;
+import com.core.miniproject.src.image.domain.entity.StoredImage;
+import com.core.miniproject.src.image.repository.StoredImageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 이미지 업로드 공용 처리기
+ * MultipartFile 의 InputStream 을 길이(Content-Length)와 함께 S3로 바로 전송 (byte[] & 로컬 임시 파일 X)
+ * 큰 파일은 TransferManager 의 멀티파트 업로드로 PART_SIZE 단위로 나눠 전송
+ * 재전송을 위해 SDK가 버퍼링하는 크기는 READ_LIMIT 으로 제한 - 업로드 한 건당 메모리 사용량 상한
+ * 여러 장은 UPLOAD_THREADS 개의 업로드 쓰레드에서 동시에 전송 (서버 전체 동시 업로드 수 상한)
+ * 키는 내용의 SHA-256 해시(images/{해시}) - 이미 저장된 이미지(StoredImage)는 전송 없이 기존 url 반환
+ * 업로드된 객체는 참조 수(ref_count)로 관리되므로 여기서 직접 삭제하지 않음 (StoredImageCollector 가 정리)
+ */
+@Slf4j
+@Component
+public class S3ImageUploader {
+
+    private static final long MULTIPART_THRESHOLD = 5L * 1024 * 1024; // S3 멀티파트 최소 파트 크기
+    private static final long PART_SIZE = 5L * 1024 * 1024;
+    private static final int READ_LIMIT = (int) MULTIPART_THRESHOLD + 1;
+    private static final int TRANSFER_THREADS = 4;
+    private static final int UPLOAD_THREADS = 8;
+    private static final long CANCEL_WAIT_SECONDS = 30;
+    private static final String IMAGE_DIR = "images";
+    private static final Pattern CONTENT_KEY = Pattern.compile(IMAGE_DIR + "/([0-9a-f]{64})");
+
+    private final AmazonS3Client amazonS3Client;
+    private final TransferManager transferManager;
+    private final ExecutorService uploadExecutor;
+    private final StoredImageRepository storedImageRepository;
+    private final MeterRegistry meterRegistry;
+    private final Counter deduplicatedCounter;
+
+    @Value("${spring.cloud.aws.s3.bucket}")
+    private String bucket;
+
+    public S3ImageUploader(AmazonS3Client amazonS3Client,
+                           StoredImageRepository storedImageRepository,
+                           MeterRegistry meterRegistry) {
+        this.amazonS3Client = amazonS3Client;
+        this.storedImageRepository = storedImageRepository;
+        this.meterRegistry = meterRegistry;
+        this.deduplicatedCounter = meterRegistry.counter("image.upload.deduplicated");
+        this.transferManager = TransferManagerBuilder.standard()
+                .withS3Client(amazonS3Client)
+                .withMultipartUploadThreshold(MULTIPART_THRESHOLD)
+                .withMinimumUploadPartSize(PART_SIZE)
+                .withExecutorFactory(() -> Executors.newFixedThreadPool(TRANSFER_THREADS, daemonThreads("s3-transfer-")))
+                .build();
+        this.uploadExecutor = Executors.newFixedThreadPool(UPLOAD_THREADS, daemonThreads("s3-upload-"));
+    }
+
+    /**
+     * @return 업로드된 이미지의 url - 같은 내용이면 항상 같은 url
+     */
+    public String upload(MultipartFile file) throws IOException {
+        return store(file, new ConcurrentHashMap<>());
+    }
+
+    /**
+     * 여러 장을 동시에 업로드
+     * @return 업로드된 이미지의 url (요청 순서대로)
+     * 한 장이라도 실패하면 나머지 업로드를 취소하고, 이미 올라간 이미지를 참조 없는 이미지로 등록한 뒤 실패 원인 예외 발생
+     */
+    public List<String> uploadAll(List<MultipartFile> files) throws IOException {
+        if (files.size() <= 1) {
+            List<String> urls = new ArrayList<>();
+            for (MultipartFile file : files) {
+                urls.add(upload(file));
+            }
+            return urls;
+        }
+
+        String[] urls = new String[files.size()];
+        Map<String, MultipartFile> pending = new ConcurrentHashMap<>(); // 전송을 시작했지만 아직 등록되지 않은 이미지
+        CountDownLatch finished = new CountDownLatch(files.size());
+        List<AtomicBoolean> claimed = new ArrayList<>(files.size()); // 업로드 쓰레드 & 취소 중 먼저 차지한 쪽이 처리
+        List<Future<Void>> futures = new ArrayList<>(files.size());
+        CompletionService<Void> completionService = new ExecutorCompletionService<>(uploadExecutor);
+
+        for (int i = 0; i < files.size(); i++) {
+            int index = i;
+            MultipartFile file = files.get(i);
+            AtomicBoolean taken = new AtomicBoolean();
+            claimed.add(taken);
+
+            futures.add(completionService.submit(() -> {
+                if (!taken.compareAndSet(false, true)) {
+                    return null; // 시작 전에 취소됨
+                }
+                try {
+                    urls[index] = store(file, pending);
+                    return null;
+                } finally {
+                    finished.countDown();
+                }
+            }));
+        }
+
+        try {
+            for (int i = 0; i < files.size(); i++) {
+                completionService.take().get();
+            }
+        } catch (ExecutionException e) {
+            cancelAll(futures, claimed, finished, pending);
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancelAll(futures, claimed, finished, pending);
+            throw new InterruptedIOException("이미지 업로드 중단");
+        }
+
+        return List.of(urls);
+    }
+
+    /**
+     * 서버에서 생성한 이미지(축소 이미지 등) 업로드 - 키를 직접 지정하므로 같은 키로 재시도하면 덮어씀
+     * @return 업로드된 이미지의 url
+     */
+    public String upload(String key, byte[] bytes, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(bytes.length);
+        metadata.setContentType(contentType);
+
+        amazonS3Client.putObject(new PutObjectRequest(bucket, key, new ByteArrayInputStream(bytes), metadata)
+                .withCannedAcl(CannedAccessControlList.PublicRead));
+
+        return urlOf(key);
+    }
+
+    // 업로드된 이미지 읽기 - 호출한 쪽에서 스트림을 닫아야 함
+    public InputStream open(String url) {
+        return amazonS3Client.getObject(bucket, keyOfUrl(url)).getObjectContent();
+    }
+
+    // 해시 계산(스트림 1회 읽기) -> 이미 저장된 이미지면 전송 생략, 없으면 전송 후 참조 없는 이미지로 등록
+    private String store(MultipartFile file, Map<String, MultipartFile> pending) throws IOException {
+        String contentHash = hash(file);
+        String key = IMAGE_DIR + "/" + contentHash;
+
+        if (storedImageRepository.existsById(contentHash)) {
+            deduplicatedCounter.increment();
+            return urlOf(key);
+        }
+
+        pending.put(contentHash, file);
+        put(file, key);
+        register(contentHash, file);
+        pending.remove(contentHash);
+
+        return urlOf(key);
+    }
+
+    // 같은 이미지를 동시에 올린 경우 먼저 등록한 쪽만 저장 (같은 키 & 같은 내용이므로 S3 객체는 동일)
+    private void register(String contentHash, MultipartFile file) {
+        try {
+            storedImageRepository.save(StoredImage.create(
+                    contentHash, IMAGE_DIR + "/" + contentHash, file.getContentType(), file.getSize()));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Stored image already registered - hash : {}", contentHash);
+        }
+    }
+
+    private static String hash(MultipartFile file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        try (InputStream inputStream = file.getInputStream()) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private void put(MultipartFile file, String key) throws IOException {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(file.getSize());
+        metadata.setContentType(file.getContentType());
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "failure";
+
+        try (InputStream inputStream = file.getInputStream()) {
+            PutObjectRequest request = new PutObjectRequest(bucket, key, inputStream, metadata)
+                    .withCannedAcl(CannedAccessControlList.PublicRead); // PublicRead 권한으로 업로드 됨
+            request.getRequestClientOptions().setReadLimit(READ_LIMIT);
+
+            if (file.getSize() < MULTIPART_THRESHOLD) {
+                amazonS3Client.putObject(request);
+            } else {
+                putMultipart(request);
+            }
+            result = "success";
+        } finally {
+            sample.stop(meterRegistry.timer("image.upload.duration", "result", result));
+        }
+
+        log.debug("Image uploaded - key : {}, size : {}", key, file.getSize());
+    }
+
+    private void putMultipart(PutObjectRequest request) throws InterruptedIOException {
+        Upload upload = transferManager.upload(request);
+
+        try {
+            upload.waitForUploadResult();
+        } catch (InterruptedException e) { // 취소 - 전송 쓰레드에서 진행 중인 멀티파트 업로드도 중단
+            upload.abort();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("이미지 업로드 중단 - " + request.getKey());
+        }
+    }
+
+    // 시작 전인 업로드는 시작하지 않도록 차지하고, 진행 중인 업로드는 인터럽트 후 끝날 때까지 대기
+    // 전송이 끝났을 수 있는 이미지는 참조 없는 이미지로 등록해 정리 대상에 포함 (다른 요청이 같은 이미지를 참조할 수 있어 직접 삭제 X)
+    private void cancelAll(List<Future<Void>> futures,
+                           List<AtomicBoolean> claimed,
+                           CountDownLatch finished,
+                           Map<String, MultipartFile> pending) {
+        for (int i = 0; i < futures.size(); i++) {
+            if (claimed.get(i).compareAndSet(false, true)) {
+                finished.countDown();
+            }
+            futures.get(i).cancel(true);
+        }
+
+        boolean interrupted = Thread.interrupted(); // 대기를 위해 인터럽트 상태를 잠시 해제
+        try {
+            if (!finished.await(CANCEL_WAIT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("Image upload cancel timed out - hashes : {}", pending.keySet());
+            }
+        } catch (InterruptedException e) {
+            interrupted = true;
+        }
+
+        pending.forEach(this::register);
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 참조 없는 이미지 정리용 (없는 키 삭제는 오류 X)
+     * @return 삭제 요청 성공 여부 - 실패하면 다음 정리 때 다시 시도
+     */
+    public boolean delete(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return true;
+        }
+
+        try {
+            amazonS3Client.deleteObjects(new DeleteObjectsRequest(bucket)
+                    .withKeys(keys.toArray(String[]::new))
+                    .withQuiet(true));
+            return true;
+        } catch (SdkClientException e) {
+            log.warn("Image cleanup failed - keys : {}, error : {}", keys, e.getMessage());
+            return false;
+        }
+    }
+
+    private static IOException unwrap(ExecutionException e) {
+        Throwable cause = e.getCause();
+
+        if (cause instanceof IOException ioException) {
+            return ioException;
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IOException(cause);
+    }
+
+    private String urlOf(String key) {
+        return amazonS3Client.getUrl(bucket, key).toString();
+    }
+
+    // https://{bucket}.s3.{region}.amazonaws.com/{key} -> {key}
+    public String keyOfUrl(String url) {
+        String path = URI.create(url).getPath();
+        return path.startsWith("/") ? path.substring(1) : path;
+    }
+
+    /**
+     * @return url 이 가리키는 이미지의 내용 해시 - 해시 키로 저장된 이미지가 아니면(외부 url, 이전 UUID 키) null
+     */
+    public String contentHashOf(String url) {
+        if (url == null || url.isBlank()) {
+            return null;
+        }
+
+        Matcher matcher = CONTENT_KEY.matcher(keyOfUrl(url));
+        return matcher.matches() ? matcher.group(1) : null;
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    // S3 클라이언트는 별도 빈이므로 업로드 & 전송 쓰레드만 종료
+    @PreDestroy
+    public void shutdown() {
+        uploadExecutor.shutdownNow();
+        transferManager.shutdownNow(false);
+    }
+}
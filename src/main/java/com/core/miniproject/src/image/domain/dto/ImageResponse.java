@@ -1,6 +1,7 @@
 package com.core.miniproject.src.image.domain.dto;
 
 import com.core.miniproject.src.image.domain.entity.AccommodationImage;
+import com.core.miniproject.src.image.domain.entity.ImageSize;
 import lombok.*;
 
 @Getter
@@ -19,4 +20,11 @@ public class ImageResponse {
                 .imagePath(image.getImagePath())
                 .build();
     }
+
+    public static ImageResponse toClient(ImageSummary image, ImageSize size) {
+        return ImageResponse.builder()
+                .id(image.id())
+                .imagePath(size.select(image.imagePath(), image.mediumPath(), image.thumbnailPath()))
+                .build();
+    }
 }
@@ -0,0 +1,13 @@
+package com.core.miniproject.src.image.domain.dto;
+
+/**
+ * 숙소 목록 응답용 숙소 이미지 projection
+ */
+public record ImageSummary(
+        Long accommodationId,
+        Long id,
+        String imagePath,
+        String mediumPath,
+        String thumbnailPath
+) {
+}
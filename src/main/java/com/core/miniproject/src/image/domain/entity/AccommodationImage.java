@@ -4,21 +4,38 @@ import com.core.miniproject.src.accommodation.domain.entity.Accommodation;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.util.Objects;
+
 @Entity
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
+@Table(indexes = {
+        @Index(name = "IX_accommodation_image_content_hash", columnList = "a_content_hash")
+})
 public class AccommodationImage {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "accommodation_image_seq_generator")
+    @SequenceGenerator(name = "accommodation_image_seq_generator", sequenceName = "accommodation_image_seq", allocationSize = 50)
     @Column(name = "accommodation_image_id")
     private Long id;
 
     @Column(name = "a_image_path")
     private String imagePath;
 
+    // 원본 내용의 SHA-256 해시 (StoredImage id) - 해시 키 도입 전 이미지는 null
+    @Column(name = "a_content_hash", length = 64)
+    private String contentHash;
+
+    // 목록 화면용 축소 이미지 (ImageDerivativeWorker 가 비동기로 생성, 생성 전에는 null)
+    @Column(name = "a_medium_path")
+    private String mediumPath;
+
+    @Column(name = "a_thumbnail_path")
+    private String thumbnailPath;
+
     @ManyToOne
     @JoinColumn(name = "accommodation_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Accommodation accommodation;
@@ -27,5 +44,17 @@ public class AccommodationImage {
         this.accommodation = accommodation;
     }
 
-    public void assignImagePath(String imagePath){this.imagePath=imagePath;}
+    // 원본이 바뀌면 이전 원본의 축소 이미지는 사용하지 않음
+    public void assignImagePath(String imagePath){
+        if (!Objects.equals(this.imagePath, imagePath)) {
+            this.mediumPath = null;
+            this.thumbnailPath = null;
+        }
+        this.imagePath=imagePath;
+    }
+
+    public void assignVariants(String mediumPath, String thumbnailPath) {
+        this.mediumPath = mediumPath;
+        this.thumbnailPath = thumbnailPath;
+    }
 }
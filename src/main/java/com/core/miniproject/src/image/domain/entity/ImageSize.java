@@ -0,0 +1,47 @@
+package com.core.miniproject.src.image.domain.entity;
+
+import com.core.miniproject.src.common.exception.BaseException;
+import com.core.miniproject.src.common.response.BaseResponseStatus;
+
+/**
+ * 응답에 사용할 이미지 크기 - 축소 이미지가 아직 생성되지 않았으면 원본 사용
+ */
+public enum ImageSize {
+    ORIGINAL("original", 0),
+    MEDIUM("medium", 960),
+    THUMBNAIL("thumbnail", 320);
+
+    private final String type;
+    private final int width; // 축소 이미지의 최대 너비(px)
+
+    ImageSize(String type, int width) {
+        this.type = type;
+        this.width = width;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public String select(String imagePath, String mediumPath, String thumbnailPath) {
+        String variantPath = switch (this) {
+            case ORIGINAL -> imagePath;
+            case MEDIUM -> mediumPath;
+            case THUMBNAIL -> thumbnailPath;
+        };
+        return variantPath != null ? variantPath : imagePath;
+    }
+
+    public static ImageSize getByText(String text) {
+        for (ImageSize size : ImageSize.values()) {
+            if (size.getType().equalsIgnoreCase(text)) {
+                return size;
+            }
+        }
+        throw new BaseException(BaseResponseStatus.IMAGE_SIZE_NOT_FOUND);
+    }
+}
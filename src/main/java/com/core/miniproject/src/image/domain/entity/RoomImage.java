@@ -5,21 +5,38 @@ import com.core.miniproject.src.room.domain.entity.Room;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.util.Objects;
+
 @Entity
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
+@Table(indexes = {
+        @Index(name = "IX_room_image_content_hash", columnList = "r_content_hash")
+})
 public class RoomImage {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "room_image_seq_generator")
+    @SequenceGenerator(name = "room_image_seq_generator", sequenceName = "room_image_seq", allocationSize = 50)
     @Column(name = "room_image_id")
     private Long id;
 
     @Column(name = "r_image_path")
     private String imagePath;
 
+    // 원본 내용의 SHA-256 해시 (StoredImage id) - 해시 키 도입 전 이미지는 null
+    @Column(name = "r_content_hash", length = 64)
+    private String contentHash;
+
+    // 목록 화면용 축소 이미지 (ImageDerivativeWorker 가 비동기로 생성, 생성 전에는 null)
+    @Column(name = "r_medium_path")
+    private String mediumPath;
+
+    @Column(name = "r_thumbnail_path")
+    private String thumbnailPath;
+
     @OneToOne(cascade = CascadeType.ALL)
     @JoinColumn(name = "room_id")
     private Room room;
@@ -34,7 +51,18 @@ public class RoomImage {
         this.room = room;
     }
 
-    public void updateImagePath(String imagePath) {
+    // 원본이 바뀌면 이전 원본의 축소 이미지는 사용하지 않음
+    public void updateImagePath(String imagePath, String contentHash) {
+        if (!Objects.equals(this.imagePath, imagePath)) {
+            this.mediumPath = null;
+            this.thumbnailPath = null;
+        }
         this.imagePath=imagePath;
+        this.contentHash = contentHash;
+    }
+
+    public void assignVariants(String mediumPath, String thumbnailPath) {
+        this.mediumPath = mediumPath;
+        this.thumbnailPath = thumbnailPath;
     }
 }
@@ -0,0 +1,82 @@
+package com.core.miniproject.src.image.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * S3에 저장된 이미지 원본 (내용의 SHA-256 해시 = id)
+ * 같은 이미지를 다시 올리면 전송 없이 기존 객체를 사용하고, 숙소 & 객실 이미지가 참조할 때마다 ref_count 증가
+ * ref_count 가 0 이 된 뒤(unreferenced_at) 유예 시간이 지난 이미지는 StoredImageCollector 가 S3 객체와 함께 삭제
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "stored_image", indexes = {
+        @Index(name = "IX_stored_image_ref_count", columnList = "ref_count, unreferenced_at")
+})
+public class StoredImage implements Persistable<String> {
+
+    @Id
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(name = "image_key", nullable = false)
+    private String imageKey;
+
+    @Column(name = "content_type")
+    private String contentType;
+
+    @Column(name = "size", nullable = false)
+    private long size;
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "TIMESTAMP")
+    private LocalDateTime createdAt;
+
+    // 참조 수가 0 이 된 시각 - 참조가 추가되면 null
+    @Column(name = "unreferenced_at", columnDefinition = "TIMESTAMP")
+    private LocalDateTime unreferencedAt;
+
+    // id를 직접 지정하므로 저장 전 SELECT(merge) 없이 INSERT 되도록 신규 여부를 직접 관리
+    @Transient
+    @Builder.Default
+    private boolean persisted = false;
+
+    // 업로드 직후에는 참조 없음 - 숙소 & 객실 저장 트랜잭션에서 참조 추가
+    public static StoredImage create(String contentHash, String imageKey, String contentType, long size) {
+        LocalDateTime now = LocalDateTime.now();
+
+        return StoredImage.builder()
+                .contentHash(contentHash)
+                .imageKey(imageKey)
+                .contentType(contentType)
+                .size(size)
+                .refCount(0)
+                .createdAt(now)
+                .unreferencedAt(now)
+                .build();
+    }
+
+    @Override
+    public String getId() {
+        return contentHash;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+}
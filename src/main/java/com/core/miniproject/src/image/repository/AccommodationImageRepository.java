@@ -1,10 +1,13 @@
 package com.core.miniproject.src.image.repository;
 
+import com.core.miniproject.src.image.domain.dto.ImageSummary;
 import com.core.miniproject.src.image.domain.entity.AccommodationImage;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -20,4 +23,24 @@ public interface AccommodationImageRepository extends JpaRepository<Accommodatio
     where ai.accommodation.id=?1
     """)
     List<AccommodationImage> findAllById(Long accommodationId);
+
+    @Query("""
+    select new com.core.miniproject.src.image.domain.dto.ImageSummary(
+        ai.accommodation.id, ai.id, ai.imagePath, ai.mediumPath, ai.thumbnailPath)
+    from AccommodationImage ai
+    where ai.accommodation.id in :accommodationIds
+    order by ai.id
+    """)
+    List<ImageSummary> findSummariesByAccommodationIdIn(@Param("accommodationIds") Collection<Long> accommodationIds);
+
+    // 축소 이미지가 아직 생성되지 않은 숙소 이미지
+    @Query("""
+    select ai
+    from AccommodationImage ai
+    join fetch ai.accommodation a
+    join fetch a.location
+    where a.id = :accommodationId
+    and ai.thumbnailPath is null
+    """)
+    List<AccommodationImage> findAllWithoutVariants(@Param("accommodationId") Long accommodationId);
 }
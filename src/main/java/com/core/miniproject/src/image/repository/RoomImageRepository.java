@@ -2,8 +2,25 @@ package com.core.miniproject.src.image.repository;
 
 import com.core.miniproject.src.image.domain.entity.RoomImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface RoomImageRepository extends JpaRepository<RoomImage, Long> {
+
+    // 축소 이미지가 아직 생성되지 않은 객실 이미지
+    @Query("""
+    select ri
+    from RoomImage ri
+    join fetch ri.room r
+    join fetch r.accommodationId a
+    join fetch a.location
+    where r.id = :roomId
+    and ri.imagePath <> ''
+    and ri.thumbnailPath is null
+    """)
+    List<RoomImage> findAllWithoutVariants(@Param("roomId") Long roomId);
 }
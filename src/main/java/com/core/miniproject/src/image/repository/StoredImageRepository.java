@@ -0,0 +1,59 @@
+package com.core.miniproject.src.image.repository;
+
+import com.core.miniproject.src.image.domain.entity.StoredImage;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface StoredImageRepository extends JpaRepository<StoredImage, String> {
+
+    @Modifying
+    @Query("""
+            update StoredImage s
+            set s.refCount = s.refCount + 1,
+                s.unreferencedAt = null
+            where s.contentHash = :contentHash
+            """)
+    int increaseRefCount(@Param("contentHash") String contentHash);
+
+    // 마지막 참조가 해제되면 해제 시각 기록 (MySQL 은 SET 을 왼쪽부터 반영하므로 ref_count 보다 먼저 갱신)
+    @Modifying
+    @Query("""
+            update StoredImage s
+            set s.unreferencedAt = case when s.refCount = 1 then :now else s.unreferencedAt end,
+                s.refCount = s.refCount - 1
+            where s.contentHash = :contentHash
+            and s.refCount > 0
+            """)
+    int decreaseRefCount(@Param("contentHash") String contentHash, @Param("now") LocalDateTime now);
+
+    // 참조가 없어진 뒤 유예 시간이 지난 이미지 - 삭제 대상 (해제 시각이 없는 이전 이미지는 생성 시각 기준)
+    @Query("""
+            select s.contentHash
+            from StoredImage s
+            where s.refCount = 0
+            and coalesce(s.unreferencedAt, s.createdAt) < :before
+            order by coalesce(s.unreferencedAt, s.createdAt)
+            """)
+    List<String> findUnreferencedHashes(@Param("before") LocalDateTime before, Pageable pageable);
+
+    // 삭제하는 동안 참조가 추가되지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select s
+            from StoredImage s
+            where s.contentHash = :contentHash
+            and s.refCount = 0
+            """)
+    Optional<StoredImage> findUnreferencedForUpdate(@Param("contentHash") String contentHash);
+}
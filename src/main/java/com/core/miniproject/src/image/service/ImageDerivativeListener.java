@@ -0,0 +1,36 @@
+package com.core.miniproject.src.image.service;
+
+import com.core.miniproject.src.common.outbox.DomainEvent;
+import com.core.miniproject.src.common.outbox.DomainEventListener;
+import com.core.miniproject.src.common.outbox.DomainEventType;
+import com.core.miniproject.src.image.service.ImageDerivativeQueue.ImageDerivativeJob;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import static com.core.miniproject.src.image.service.ImageDerivativeQueue.ImageDerivativeJob.Target.ACCOMMODATION;
+import static com.core.miniproject.src.image.service.ImageDerivativeQueue.ImageDerivativeJob.Target.ROOM;
+
+/**
+ * 숙소 & 객실 생성, 수정 이벤트를 받아 축소 이미지 생성 작업 등록
+ */
+@Component
+@RequiredArgsConstructor
+public class ImageDerivativeListener implements DomainEventListener {
+
+    private final ImageDerivativeQueue imageDerivativeQueue;
+
+    @Override
+    public boolean supports(DomainEventType type) {
+        return switch (type) {
+            case ACCOMMODATION_CREATED, ACCOMMODATION_UPDATED, ROOM_CREATED, ROOM_UPDATED -> true;
+            default -> false;
+        };
+    }
+
+    @Override
+    public void onEvent(DomainEvent event) {
+        ImageDerivativeJob.Target target = event.type().getAggregateType().equals("ROOM") ? ROOM : ACCOMMODATION;
+
+        imageDerivativeQueue.enqueue(ImageDerivativeJob.of(target, event.aggregateId()));
+    }
+}
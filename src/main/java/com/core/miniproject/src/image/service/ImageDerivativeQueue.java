@@ -0,0 +1,173 @@
+package com.core.miniproject.src.image.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 축소 이미지 생성 작업 대기열 (Redis list) - 여러 인스턴스가 함께 꺼내 처리, 한 작업은 한 인스턴스에만 전달
+ * 작업은 이미지 단위가 아닌 숙소 & 객실 단위 - 처리 시점에 축소 이미지가 없는 이미지만 찾아 생성하므로 중복 작업도 안전
+ * 꺼낸 작업은 처리 완료(complete) 전까지 처리 중 목록에 남겨두고, 처리 제한 시간이 지나면(인스턴스 종료 등) 대기열로 되돌림
+ * 실패한 작업은 지연 목록(ZSET, score = 재시도 시각)에 넣었다가 재시도 시각이 되면 대기열로 옮김
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageDerivativeQueue {
+
+    private static final String QUEUE_KEY = "image-derivative:jobs";
+    private static final String PROCESSING_KEY = "image-derivative:processing";
+    private static final String LEASE_KEY = "image-derivative:leases"; // 처리 중 작업 & 처리 제한 시각
+    private static final String DELAYED_KEY = "image-derivative:delayed";
+    private static final int MAX_ATTEMPTS = 3;
+    private static final int REQUEUE_BATCH_SIZE = 100;
+    private static final Duration LEASE_TIMEOUT = Duration.ofMinutes(5);
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(30);
+
+    // 대기열에서 처리 중 목록으로 옮기면서(LMOVE) 처리 제한 시각 기록
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            local jobs = {}
+            for i = 1, tonumber(ARGV[2]) do
+                local job = redis.call('LMOVE', KEYS[1], KEYS[2], 'RIGHT', 'LEFT')
+                if not job then
+                    break
+                end
+                redis.call('ZADD', KEYS[3], ARGV[1], job)
+                jobs[#jobs + 1] = job
+            end
+            return jobs
+            """, List.class);
+
+    // 처리 중 목록에서 제거 - 같은 작업이 더 남아 있으면 처리 제한 시각 유지, ARGV[2] 가 있으면 지연 목록에 추가
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>("""
+            local removed = redis.call('LREM', KEYS[1], 1, ARGV[1])
+            if not redis.call('LPOS', KEYS[1], ARGV[1]) then
+                redis.call('ZREM', KEYS[2], ARGV[1])
+            end
+            if ARGV[2] then
+                redis.call('ZADD', KEYS[3], ARGV[3], ARGV[2])
+            end
+            return removed
+            """, Long.class);
+
+    // 재시도 시각이 된 작업은 대기열 끝으로, 처리 제한 시각이 지난 작업은 대기열 맨 앞으로 이동
+    private static final RedisScript<Long> REQUEUE_SCRIPT = new DefaultRedisScript<>("""
+            local moved = 0
+            for _, job in ipairs(redis.call('ZRANGEBYSCORE', KEYS[3], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))) do
+                redis.call('ZREM', KEYS[3], job)
+                redis.call('LPUSH', KEYS[1], job)
+                moved = moved + 1
+            end
+            for _, job in ipairs(redis.call('ZRANGEBYSCORE', KEYS[4], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))) do
+                redis.call('ZREM', KEYS[4], job)
+                if redis.call('LREM', KEYS[2], 1, job) > 0 then
+                    redis.call('RPUSH', KEYS[1], job)
+                    moved = moved + 1
+                end
+            end
+            return moved
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 실패 시 예외를 그대로 던져 이벤트가 재전달되도록
+    public void enqueue(ImageDerivativeJob job) {
+        stringRedisTemplate.opsForList().leftPush(QUEUE_KEY, job.encode());
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<ImageDerivativeJob> poll(int count) {
+        long leaseUntil = System.currentTimeMillis() + LEASE_TIMEOUT.toMillis();
+
+        try {
+            List<String> jobs = stringRedisTemplate.execute(CLAIM_SCRIPT, List.of(QUEUE_KEY, PROCESSING_KEY, LEASE_KEY),
+                    String.valueOf(leaseUntil), String.valueOf(count));
+
+            if (jobs == null) {
+                return Collections.emptyList();
+            }
+            return jobs.stream().map(ImageDerivativeJob::decode).toList();
+        } catch (DataAccessException e) {
+            log.warn("Image derivative queue poll failed - error : {}", e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    // 처리 완료 - 실패해도 처리 제한 시각 이후 다시 처리될 뿐이므로 로그만 남김
+    public void complete(ImageDerivativeJob job) {
+        try {
+            stringRedisTemplate.execute(COMPLETE_SCRIPT, List.of(PROCESSING_KEY, LEASE_KEY, DELAYED_KEY), job.encode());
+        } catch (DataAccessException e) {
+            log.warn("Image derivative job complete failed - job : {}, error : {}", job.encode(), e.getMessage());
+        }
+    }
+
+    // 최대 시도 횟수까지 시도마다 2배씩 늘어나는 지연 후 대기열에 다시 추가
+    public void retry(ImageDerivativeJob job) {
+        ImageDerivativeJob next = job.nextAttempt();
+
+        if (next.attempt() >= MAX_ATTEMPTS) {
+            log.warn("Image derivative job dropped - job : {}", job.encode());
+            complete(job);
+            return;
+        }
+
+        long retryAt = System.currentTimeMillis() + RETRY_DELAY.toMillis() * (1L << job.attempt());
+
+        try {
+            stringRedisTemplate.execute(COMPLETE_SCRIPT, List.of(PROCESSING_KEY, LEASE_KEY, DELAYED_KEY),
+                    job.encode(), next.encode(), String.valueOf(retryAt));
+        } catch (DataAccessException e) {
+            log.warn("Image derivative job retry failed - job : {}, error : {}", job.encode(), e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelay = 5000)
+    public void requeue() {
+        try {
+            Long moved = stringRedisTemplate.execute(REQUEUE_SCRIPT, List.of(QUEUE_KEY, PROCESSING_KEY, DELAYED_KEY, LEASE_KEY),
+                    String.valueOf(System.currentTimeMillis()), String.valueOf(REQUEUE_BATCH_SIZE));
+
+            if (moved != null && moved > 0) {
+                log.info("Image derivative jobs requeued - count : {}", moved);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Image derivative requeue failed - error : {}", e.getMessage());
+        }
+    }
+
+    public record ImageDerivativeJob(Target target, Long aggregateId, int attempt) {
+
+        public enum Target {
+            ACCOMMODATION, ROOM
+        }
+
+        public static ImageDerivativeJob of(Target target, Long aggregateId) {
+            return new ImageDerivativeJob(target, aggregateId, 0);
+        }
+
+        // {target}:{aggregateId}:{attempt}
+        public static ImageDerivativeJob decode(String value) {
+            String[] parts = value.split(":");
+            return new ImageDerivativeJob(Target.valueOf(parts[0]), Long.valueOf(parts[1]), Integer.parseInt(parts[2]));
+        }
+
+        public String encode() {
+            return target.name() + ":" + aggregateId + ":" + attempt;
+        }
+
+        private ImageDerivativeJob nextAttempt() {
+            return new ImageDerivativeJob(target, aggregateId, attempt + 1);
+        }
+    }
+}
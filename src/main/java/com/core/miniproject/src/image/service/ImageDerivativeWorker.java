@@ -0,0 +1,198 @@
+package com.core.miniproject.src.image.service;
+
+import com.core.miniproject.src.common.outbox.OutboxEventRecorder;
+import com.core.miniproject.src.common.util.ImageResizer;
+import com.core.miniproject.src.common.util.S3ImageUploader;
+import com.core.miniproject.src.image.domain.entity.AccommodationImage;
+import com.core.miniproject.src.image.domain.entity.ImageSize;
+import com.core.miniproject.src.image.domain.entity.RoomImage;
+import com.core.miniproject.src.image.repository.AccommodationImageRepository;
+import com.core.miniproject.src.image.repository.RoomImageRepository;
+import com.core.miniproject.src.image.service.ImageDerivativeQueue.ImageDerivativeJob;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.core.miniproject.src.common.outbox.DomainEventType.IMAGE_DERIVED;
+
+/**
+ * 대기열의 작업을 꺼내 원본 이미지로 medium & thumbnail 축소 이미지를 생성해 S3에 올리고 이미지 엔티티에 경로 저장
+ * 이미지 처리는 전용 쓰레드에서 실행 (스케줄러 쓰레드를 점유해 다른 스케줄 작업이 밀리지 않도록)
+ * 축소 이미지 키는 원본 키에서 결정되므로({원본 키}_{크기}.{형식}) 재시도해도 같은 객체를 덮어씀
+ */
+@Slf4j
+@Component
+public class ImageDerivativeWorker {
+
+    private static final int BATCH_SIZE = 10;
+
+    private final ImageDerivativeQueue imageDerivativeQueue;
+    private final AccommodationImageRepository accommodationImageRepository;
+    private final RoomImageRepository roomImageRepository;
+    private final S3ImageUploader s3ImageUploader;
+    private final OutboxEventRecorder outboxEventRecorder;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "image-derivative");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private final Counter generatedCounter;
+    private final Counter skippedCounter;
+    private final Counter failedCounter;
+
+    public ImageDerivativeWorker(ImageDerivativeQueue imageDerivativeQueue,
+                                 AccommodationImageRepository accommodationImageRepository,
+                                 RoomImageRepository roomImageRepository,
+                                 S3ImageUploader s3ImageUploader,
+                                 OutboxEventRecorder outboxEventRecorder,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry) {
+        this.imageDerivativeQueue = imageDerivativeQueue;
+        this.accommodationImageRepository = accommodationImageRepository;
+        this.roomImageRepository = roomImageRepository;
+        this.s3ImageUploader = s3ImageUploader;
+        this.outboxEventRecorder = outboxEventRecorder;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.generatedCounter = meterRegistry.counter("image.derivative.images", "result", "generated");
+        this.skippedCounter = meterRegistry.counter("image.derivative.images", "result", "skipped");
+        this.failedCounter = meterRegistry.counter("image.derivative.images", "result", "failed");
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public void schedule() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    drain();
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RuntimeException e) { // 종료 중
+            running.set(false);
+        }
+    }
+
+    // 대기열이 빌 때까지 BATCH_SIZE 만큼씩 처리
+    void drain() {
+        List<ImageDerivativeJob> jobs;
+
+        do {
+            jobs = imageDerivativeQueue.poll(BATCH_SIZE);
+            jobs.forEach(this::processSafely);
+        } while (jobs.size() == BATCH_SIZE);
+    }
+
+    private void processSafely(ImageDerivativeJob job) {
+        try {
+            process(job);
+            imageDerivativeQueue.complete(job);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Image derivative job failed - job : {}, error : {}", job.encode(), e.getMessage());
+            failedCounter.increment();
+            imageDerivativeQueue.retry(job);
+        }
+    }
+
+    private void process(ImageDerivativeJob job) throws IOException {
+        switch (job.target()) {
+            case ACCOMMODATION -> {
+                for (AccommodationImage image : accommodationImageRepository.findAllWithoutVariants(job.aggregateId())) {
+                    Variants variants = derive(image.getImagePath());
+                    if (variants != null) {
+                        saveAccommodationImage(image.getId(), image.getImagePath(), variants);
+                    }
+                }
+            }
+            case ROOM -> {
+                for (RoomImage image : roomImageRepository.findAllWithoutVariants(job.aggregateId())) {
+                    Variants variants = derive(image.getImagePath());
+                    if (variants != null) {
+                        saveRoomImage(image.getId(), image.getImagePath(), variants);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return 생성된 축소 이미지 url - 이미지로 읽을 수 없는 원본이면 null (재시도 X)
+     */
+    private Variants derive(String imagePath) throws IOException {
+        BufferedImage original;
+        try (InputStream inputStream = s3ImageUploader.open(imagePath)) {
+            original = ImageIO.read(inputStream);
+        }
+
+        if (original == null) {
+            log.warn("Image derivative skipped - unsupported image : {}", imagePath);
+            skippedCounter.increment();
+            return null;
+        }
+
+        String mediumPath = upload(imagePath, original, ImageSize.MEDIUM);
+        String thumbnailPath = upload(imagePath, original, ImageSize.THUMBNAIL);
+
+        generatedCounter.increment();
+        return new Variants(mediumPath, thumbnailPath);
+    }
+
+    private String upload(String imagePath, BufferedImage original, ImageSize size) throws IOException {
+        String originalKey = s3ImageUploader.keyOfUrl(imagePath);
+        int extensionIndex = originalKey.lastIndexOf('.');
+        String baseKey = extensionIndex > originalKey.lastIndexOf('/') ? originalKey.substring(0, extensionIndex) : originalKey;
+
+        byte[] bytes = ImageResizer.encode(ImageResizer.resize(original, size.getWidth()));
+
+        return s3ImageUploader.upload(baseKey + "_" + size.getType() + "." + ImageResizer.FORMAT, bytes, ImageResizer.CONTENT_TYPE);
+    }
+
+    // 생성하는 동안 원본이 바뀌었으면 저장하지 않음 (바뀐 원본은 수정 이벤트로 다시 생성)
+    private void saveAccommodationImage(Long imageId, String imagePath, Variants variants) {
+        transactionTemplate.executeWithoutResult(status -> accommodationImageRepository.findById(imageId)
+                .filter(image -> imagePath.equals(image.getImagePath()))
+                .ifPresent(image -> {
+                    image.assignVariants(variants.mediumPath(), variants.thumbnailPath());
+                    outboxEventRecorder.record(IMAGE_DERIVED, imageId, image.getAccommodation()); // 검색 캐시 삭제
+                }));
+    }
+
+    private void saveRoomImage(Long imageId, String imagePath, Variants variants) {
+        transactionTemplate.executeWithoutResult(status -> roomImageRepository.findById(imageId)
+                .filter(image -> imagePath.equals(image.getImagePath()))
+                .ifPresent(image -> {
+                    image.assignVariants(variants.mediumPath(), variants.thumbnailPath());
+                    outboxEventRecorder.record(IMAGE_DERIVED, imageId, image.getRoom().getAccommodationId());
+                }));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private record Variants(String mediumPath, String thumbnailPath) {
+    }
+}
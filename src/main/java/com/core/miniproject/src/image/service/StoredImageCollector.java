@@ -0,0 +1,106 @@
+package com.core.miniproject.src.image.service;
+
+import com.core.miniproject.src.common.util.S3ImageUploader;
+import com.core.miniproject.src.image.domain.entity.ImageSize;
+import com.core.miniproject.src.image.domain.entity.StoredImage;
+import com.core.miniproject.src.image.repository.StoredImageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 참조 수가 0 인 저장 이미지(업로드 후 저장이 롤백된 이미지, 더 이상 쓰지 않는 이미지)를 S3 객체와 함께 삭제
+ * 업로드 직후 ~ 엔티티 저장 전에도 참조 수가 0 이므로 참조가 없어진 시각(unreferenced_at)부터 GRACE_PERIOD 가 지난 이미지만 삭제
+ * (방금 해제된 이미지를 다시 올리면 기존 객체를 재사용하므로, 해제 직후 삭제되어 참조에 실패하지 않도록)
+ * 이미지마다 행을 잠근 트랜잭션에서 삭제 - 삭제 중 추가되는 참조는 잠금 해제 후 실패 (IMAGE_NOT_FOUND)
+ */
+@Slf4j
+@Component
+public class StoredImageCollector {
+
+    private static final Duration GRACE_PERIOD = Duration.ofDays(1);
+    private static final int PAGE_SIZE = 100;
+    private static final List<String> VARIANT_FORMATS = List.of("webp", "jpg"); // 배포 환경마다 축소 이미지 형식이 다를 수 있음
+
+    private final StoredImageRepository storedImageRepository;
+    private final S3ImageUploader s3ImageUploader;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter collectedCounter;
+
+    public StoredImageCollector(StoredImageRepository storedImageRepository,
+                                S3ImageUploader s3ImageUploader,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry) {
+        this.storedImageRepository = storedImageRepository;
+        this.s3ImageUploader = s3ImageUploader;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.collectedCounter = meterRegistry.counter("image.stored.collected");
+    }
+
+    // 삭제된 이미지는 조회 대상에서 빠지므로 매번 첫 페이지만 조회, 삭제하지 못한 이미지가 있으면 나머지는 다음 실행으로 미룸
+    @Scheduled(fixedDelay = 60 * 60 * 1000, initialDelay = 10 * 60 * 1000)
+    public void collect() {
+        Pageable page = PageRequest.of(0, PAGE_SIZE);
+        int total = 0;
+
+        while (true) {
+            List<String> hashes = storedImageRepository.findUnreferencedHashes(LocalDateTime.now().minus(GRACE_PERIOD), page);
+
+            int collected = 0;
+            for (String hash : hashes) {
+                if (collect(hash)) {
+                    collected++;
+                }
+            }
+            total += collected;
+
+            if (hashes.size() < PAGE_SIZE || collected < hashes.size()) {
+                break;
+            }
+        }
+
+        collectedCounter.increment(total);
+        if (total > 0) {
+            log.info("Stored image collected - count : {}", total);
+        }
+    }
+
+    private boolean collect(String contentHash) {
+        Boolean collected = transactionTemplate.execute(status -> storedImageRepository.findUnreferencedForUpdate(contentHash)
+                .map(image -> {
+                    if (!s3ImageUploader.delete(keysOf(image))) {
+                        return false;
+                    }
+                    storedImageRepository.delete(image);
+                    return true;
+                })
+                .orElse(false)); // 그 사이 참조가 추가됨 - 다음 조회 대상에서 빠짐
+
+        return Boolean.TRUE.equals(collected);
+    }
+
+    // 원본 + 축소 이미지 ({원본 키}_{크기}.{형식}, ImageDerivativeWorker)
+    private static List<String> keysOf(StoredImage image) {
+        List<String> keys = new ArrayList<>();
+        keys.add(image.getImageKey());
+
+        for (ImageSize size : List.of(ImageSize.MEDIUM, ImageSize.THUMBNAIL)) {
+            for (String format : VARIANT_FORMATS) {
+                keys.add(image.getImageKey() + "_" + size.getType() + "." + format);
+            }
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,43 @@
+package com.core.miniproject.src.image.service;
+
+import com.core.miniproject.src.common.exception.BaseException;
+import com.core.miniproject.src.common.util.S3ImageUploader;
+import com.core.miniproject.src.image.repository.StoredImageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+import static com.core.miniproject.src.common.response.BaseResponseStatus.IMAGE_NOT_FOUND;
+
+/**
+ * 숙소 & 객실 이미지가 저장된 이미지(StoredImage)를 참조할 때 참조 수 관리
+ * 이미지 엔티티 저장 트랜잭션 안에서 호출 - 롤백되면 참조 수도 함께 롤백
+ * 해시 키가 아닌 경로(이전 UUID 키, 외부 url)는 관리 대상 X
+ */
+@Service
+@RequiredArgsConstructor
+public class StoredImageService {
+
+    private final StoredImageRepository storedImageRepository;
+    private final S3ImageUploader s3ImageUploader;
+
+    /**
+     * @return 참조한 이미지의 내용 해시 (이미지 엔티티의 content_hash) - 관리 대상이 아닌 경로면 null
+     * 정리(StoredImageCollector)로 이미 삭제된 이미지면 참조할 수 없음
+     */
+    public String reference(String imagePath) {
+        String contentHash = s3ImageUploader.contentHashOf(imagePath);
+
+        if (contentHash != null && storedImageRepository.increaseRefCount(contentHash) == 0) {
+            throw new BaseException(IMAGE_NOT_FOUND);
+        }
+        return contentHash;
+    }
+
+    public void release(String contentHash) {
+        if (contentHash != null) {
+            storedImageRepository.decreaseRefCount(contentHash, LocalDateTime.now());
+        }
+    }
+}
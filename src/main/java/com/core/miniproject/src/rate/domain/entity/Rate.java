@@ -13,7 +13,8 @@ import org.hibernate.annotations.SQLDelete;
 @SQLDelete(sql = "update rate set is_deleted=true where rate_id=?")
 public class Rate {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "rate_seq_generator")
+    @SequenceGenerator(name = "rate_seq_generator", sequenceName = "rate_seq", allocationSize = 50)
     @Column(name = "rate_id")
     private Long id;
 
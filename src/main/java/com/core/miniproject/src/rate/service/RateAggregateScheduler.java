@@ -0,0 +1,29 @@
+package com.core.miniproject.src.rate.service;
+
+import com.core.miniproject.src.accommodation.repository.AccommodationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateAggregateScheduler {
+
+    private final AccommodationRepository accommodationRepository;
+
+    // 숙소에 저장된 별점 합계 & 개수를 Rate 테이블 기준으로 다시 계산(누락, 삭제된 별점 보정)
+    // 기동 시에도 1회 실행 - 합계 & 개수 컬럼이 기본값(0)으로 추가된 기존 숙소 보정
+    @Transactional
+    @Scheduled(cron = "0 0 4 * * *")
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileRateAggregates() {
+        int updatedCount = accommodationRepository.reconcileRateAggregates();
+
+        log.info("Rate aggregates reconciled - accommodations : {}", updatedCount);
+    }
+}
@@ -3,6 +3,7 @@ package com.core.miniproject.src.rate.service;
 import com.core.miniproject.src.accommodation.domain.entity.Accommodation;
 import com.core.miniproject.src.accommodation.repository.AccommodationRepository;
 import com.core.miniproject.src.common.exception.BaseException;
+import com.core.miniproject.src.common.outbox.OutboxEventRecorder;
 import com.core.miniproject.src.common.response.BaseResponseStatus;
 import com.core.miniproject.src.common.security.principal.MemberInfo;
 import com.core.miniproject.src.rate.domain.dto.RateInsertRequest;
@@ -16,6 +17,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
+import static com.core.miniproject.src.common.outbox.DomainEventType.RATE_CREATED;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -23,6 +26,7 @@ public class RateService {
 
     private final AccommodationRepository accommodationRepository;
     private final RateRepository rateRepository;
+    private final OutboxEventRecorder outboxEventRecorder;
 
     @Transactional
     public RateInsertResponse createRate(
@@ -32,7 +36,12 @@ public class RateService {
         Accommodation accommodation = accommodationRepository.findById(id)
                 .orElseThrow(()-> new BaseException(BaseResponseStatus.ACCOMMODATION_DOES_NOT_EXIST));
         Rate rate = getRateForRequest(request, accommodation);
-        return RateInsertResponse.toClient(rateRepository.save(rate));
+        Rate savedRate = rateRepository.save(rate);
+
+        accommodationRepository.increaseRate(accommodation.getId(), savedRate.getRate()); // 숙소의 별점 합계 & 개수 갱신
+        outboxEventRecorder.record(RATE_CREATED, savedRate.getId(), accommodation);
+
+        return RateInsertResponse.toClient(savedRate);
     }
 
     private Rate getRateForRequest(RateInsertRequest request, Accommodation accommodation){
@@ -1,10 +1,13 @@
 package com.core.miniproject.src.reservation.controller;
 
+import com.core.miniproject.src.common.idempotency.IdempotencyStore;
 import com.core.miniproject.src.common.response.BaseResponse;
+import com.core.miniproject.src.common.response.BaseResponseStatus;
 import com.core.miniproject.src.common.security.JwtAuthentication;
 import com.core.miniproject.src.common.security.principal.MemberInfo;
 import com.core.miniproject.src.reservation.model.dto.*;
 import com.core.miniproject.src.reservation.service.ReservationService;
+import com.fasterxml.jackson.core.type.TypeReference;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,18 +27,27 @@ import static com.core.miniproject.src.common.response.BaseResponse.response;
 @Tag(name = "예약 생성 & 수정 & 삭제 api", description = "할인율 관련 api - 보안 설정 X")
 public class ReservationController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final ReservationService reservationService;
+    private final IdempotencyStore idempotencyStore;
 
     @PostMapping("/v1/reservation/insert")
     public BaseResponse<ReservationInsertResponse> registerReservation(
             @RequestBody ReservationInsertRequest request,
-            @JwtAuthentication MemberInfo memberInfo)
+            @JwtAuthentication MemberInfo memberInfo,
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey)
     {
 
         log.info("Post Mapping - Create a new reservation - member_id : {}, member_email : {}, request : {}",
                 memberInfo.getId(), memberInfo.getEmail(), request);
 
-        return response(reservationService.registerReservation(request, memberInfo));
+        ReservationInsertResponse insertResponse = idempotencyStore.execute(
+                "reservation-insert", memberInfo.getId(), idempotencyKey, request, ReservationService.BOOKING_TIMEOUT,
+                new TypeReference<ReservationInsertResponse>() {},
+                () -> reservationService.registerReservation(request, memberInfo));
+
+        return response(insertResponse);
     }
 
     @GetMapping("/v1/reservation")
@@ -54,12 +66,27 @@ public class ReservationController {
         return response(reservationListResponse);
     }
 
+    @DeleteMapping("/v1/reservation/{reservation_id}/cancel")
+    public BaseResponse<BaseResponseStatus> cancelReservation(
+            @PathVariable("reservation_id") Long reservationId,
+            @JwtAuthentication MemberInfo memberInfo
+    ) {
+        log.info("Delete Mapping - Cancel reservation - member_id : {}, reservation_id : {}",
+                memberInfo.getId(), reservationId);
+
+        return response(reservationService.cancelReservation(reservationId, memberInfo));
+    }
+
     @PostMapping("/v1/reservation/basket")
     public BaseResponse<List<ReservationListResponse>> reservationFromBasket(
             @RequestBody ReservationBasketRequest request,
-            @JwtAuthentication MemberInfo memberInfo
+            @JwtAuthentication MemberInfo memberInfo,
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
     ) {
-        List<ReservationListResponse> responses = reservationService.reservationFromBasket(request, memberInfo);
+        List<ReservationListResponse> responses = idempotencyStore.execute(
+                "reservation-basket", memberInfo.getId(), idempotencyKey, request, ReservationService.BOOKING_TIMEOUT,
+                new TypeReference<List<ReservationListResponse>>() {},
+                () -> reservationService.reservationFromBasket(request, memberInfo));
 
         return response(responses);
     }
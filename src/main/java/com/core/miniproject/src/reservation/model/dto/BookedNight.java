@@ -0,0 +1,26 @@
+package com.core.miniproject.src.reservation.model.dto;
+
+import com.core.miniproject.src.reservation.model.entity.RoomNight;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor
+public class BookedNight {
+
+    private Long roomId;
+    private LocalDate night;
+
+    public static List<BookedNight> of(Long roomId, LocalDate checkIn, LocalDate checkOut) {
+        return RoomNight.nightsOf(checkIn, checkOut).stream()
+                .map(night -> new BookedNight(roomId, night))
+                .toList();
+    }
+}
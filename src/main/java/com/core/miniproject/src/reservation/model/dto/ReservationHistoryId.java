@@ -0,0 +1,15 @@
+package com.core.miniproject.src.reservation.model.dto;
+
+/**
+ * 예약 + 보관 예약 UNION ALL 조회 결과(예약 id, 보관 여부)
+ */
+public interface ReservationHistoryId {
+
+    Long getId();
+
+    Integer getArchived();
+
+    default boolean isArchived() {
+        return getArchived() != null && getArchived() == 1;
+    }
+}
@@ -2,6 +2,7 @@ package com.core.miniproject.src.reservation.model.dto;
 
 import com.core.miniproject.src.common.constant.IsVisited;
 import com.core.miniproject.src.reservation.model.entity.Reservation;
+import com.core.miniproject.src.reservation.model.entity.ReservationArchive;
 import com.core.miniproject.src.room.domain.dto.RoomResponse;
 import lombok.*;
 
@@ -45,4 +46,22 @@ public class ReservationResultDto {
                 .room(RoomResponse.toClient(reservation.getRoom()))
                 .build();
     }
+
+    public static ReservationResultDto toResponse(ReservationArchive reservation) {
+        return ReservationResultDto.builder()
+                .reservationId(reservation.getId())
+                .memberId(reservation.getMemberId())
+                .accommodationName(reservation.getRoom().getAccommodationId().getAccommodationName())
+                .roomName(reservation.getRoomName())
+                .address(reservation.getAddress())
+                .checkIn(reservation.getCheckIn())
+                .checkOut(reservation.getCheckOut())
+                .price(reservation.getPrice())
+                .discount(reservation.getRoom().getAccommodationId().getDiscount().getDiscountRate())
+                .fixedNumber(reservation.getFixedNumber())
+                .maxedNumber(reservation.getMaxedNumber())
+                .isVisited(reservation.getIsVisited())
+                .room(RoomResponse.toClient(reservation.getRoom()))
+                .build();
+    }
 }
@@ -0,0 +1,17 @@
+package com.core.miniproject.src.reservation.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+
+@Getter
+@ToString
+@AllArgsConstructor
+public class ReservedPeriod {
+
+    private Long roomId;
+    private LocalDate checkIn;
+    private LocalDate checkOut;
+}
@@ -7,17 +7,26 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 
 @Entity
 @Getter
 @Builder
 @AllArgsConstructor
-@Table(indexes = @Index(name = "IX_reservation_member_id", columnList = "member_id"))
+@Table(indexes = {
+        @Index(name = "IX_reservation_member_id", columnList = "member_id"),
+        @Index(name = "IX_reservation_check_in", columnList = "check_in"),
+        @Index(name = "IX_reservation_check_out", columnList = "check_out")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Reservation {
 
+    // IDENTITY 는 INSERT 마다 id를 받아와야 해서 배치 INSERT 불가 - 시퀀스에서 50개씩 미리 할당
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservation_seq_generator")
+    @SequenceGenerator(name = "reservation_seq_generator", sequenceName = "reservation_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "room_name")
@@ -51,4 +60,45 @@ public class Reservation {
     @ManyToOne
     @JoinColumn(name = "room_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Room room;
+
+    // 예약 저장 & 삭제 시 숙박일도 함께 저장 & 삭제
+    @Builder.Default
+    @OneToMany(mappedBy = "reservation", cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<RoomNight> nights = new ArrayList<>();
+
+    // 롤백된 저장을 다시 시도할 때 사용 - 롤백 전에 할당된 id 없이 숙박일까지 새로 생성
+    public Reservation copyWithoutId() {
+        Reservation copy = Reservation.builder()
+                .roomName(roomName)
+                .address(address)
+                .checkIn(checkIn)
+                .checkOut(checkOut)
+                .price(price)
+                .fixedNumber(fixedNumber)
+                .maxedNumber(maxedNumber)
+                .isVisited(isVisited)
+                .member(member)
+                .room(room)
+                .build();
+        copy.assignNights();
+
+        return copy;
+    }
+
+    public void assignNights() {
+        assignNightsExcept(Set.of());
+    }
+
+    // 다른 예약이 이미 차지한 숙박일은 제외 (room_night 도입 전 겹쳐서 생성된 기존 예약 보정용)
+    public void assignNightsExcept(Set<LocalDate> takenNights) {
+        this.nights.clear();
+
+        RoomNight.nightsOf(checkIn, checkOut).stream()
+                .filter(night -> !takenNights.contains(night))
+                .forEach(night -> this.nights.add(RoomNight.builder()
+                        .roomId(room.getId())
+                        .night(night)
+                        .reservation(this)
+                        .build()));
+    }
 }
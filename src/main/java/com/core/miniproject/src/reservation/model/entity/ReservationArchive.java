@@ -0,0 +1,61 @@
+package com.core.miniproject.src.reservation.model.entity;
+
+import com.core.miniproject.src.common.constant.IsVisited;
+import com.core.miniproject.src.room.domain.entity.Room;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 이용이 끝난 예약(퇴실일 경과) 보관 테이블
+ * 예약 테이블에는 앞으로의 예약만 남겨 가용성 조회 & 검색 조인 대상 행 수를 줄이기 위함
+ * id는 원본 예약 id를 그대로 사용
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "reservation_archive", indexes = {
+        @Index(name = "IX_reservation_archive_member_id", columnList = "member_id")
+})
+public class ReservationArchive {
+
+    @Id
+    private Long id;
+
+    @Column(name = "room_name")
+    private String roomName;
+
+    @Column(name = "address")
+    private String address;
+
+    @Column(name = "check_in")
+    private LocalDate checkIn;
+
+    @Column(name = "check_out")
+    private LocalDate checkOut;
+
+    private int price;
+
+    @Column(name = "fixed_number")
+    private int fixedNumber;
+
+    @Column(name = "maxed_number")
+    private int maxedNumber;
+
+    @Column(name = "is_visited")
+    @Enumerated(EnumType.STRING)
+    private IsVisited isVisited;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @ManyToOne
+    @JoinColumn(name = "room_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private Room room;
+
+    @Column(name = "archived_at")
+    private LocalDate archivedAt;
+}
@@ -0,0 +1,43 @@
+package com.core.miniproject.src.reservation.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 객실별 예약된 숙박일(1박 = 1행)
+ * (room_id, night) 유니크 제약으로 같은 객실 & 같은 날짜의 중복 예약을 DB에서 차단
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "room_night",
+        uniqueConstraints = @UniqueConstraint(name = "UK_room_night_room_id_night", columnNames = {"room_id", "night"}),
+        indexes = @Index(name = "IX_room_night_reservation_id", columnList = "reservation_id"))
+public class RoomNight {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "room_night_seq_generator")
+    @SequenceGenerator(name = "room_night_seq_generator", sequenceName = "room_night_seq", allocationSize = 50)
+    @Column(name = "room_night_id")
+    private Long id;
+
+    @Column(name = "room_id", nullable = false)
+    private Long roomId;
+
+    @Column(name = "night", nullable = false)
+    private LocalDate night;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "reservation_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private Reservation reservation;
+
+    // 입실일 ~ 퇴실 전날까지의 숙박일 목록
+    public static List<LocalDate> nightsOf(LocalDate checkIn, LocalDate checkOut) {
+        return checkIn.datesUntil(checkOut).toList();
+    }
+}
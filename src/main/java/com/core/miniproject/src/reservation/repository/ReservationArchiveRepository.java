@@ -0,0 +1,39 @@
+package com.core.miniproject.src.reservation.repository;
+
+import com.core.miniproject.src.reservation.model.entity.ReservationArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ReservationArchiveRepository extends JpaRepository<ReservationArchive, Long> {
+
+    // 예약 -> 보관 테이블 복사(INSERT ... SELECT 1회)
+    @Modifying
+    @Query("""
+            insert into ReservationArchive (id, roomName, address, checkIn, checkOut, price, fixedNumber, maxedNumber,
+                                            isVisited, memberId, room, archivedAt)
+            select r.id, r.roomName, r.address, r.checkIn, r.checkOut, r.price, r.fixedNumber, r.maxedNumber,
+                   r.isVisited, r.member.id, r.room, :archivedAt
+            from Reservation r
+            where r.id in :ids
+            """)
+    int archive(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDate archivedAt);
+
+    @Query("""
+            select a
+            from ReservationArchive a
+            join fetch a.room r
+            left join fetch r.roomImage
+            join fetch r.accommodationId ac
+            join fetch ac.discount
+            where a.id in :ids
+            """)
+    List<ReservationArchive> findAllWithRoomByIdIn(@Param("ids") Collection<Long> ids);
+}
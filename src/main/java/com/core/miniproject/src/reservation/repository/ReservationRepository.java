@@ -1,6 +1,8 @@
 package com.core.miniproject.src.reservation.repository;
 
 import com.core.miniproject.src.common.constant.IsVisited;
+import com.core.miniproject.src.reservation.model.dto.ReservationHistoryId;
+import com.core.miniproject.src.reservation.model.dto.ReservedPeriod;
 import com.core.miniproject.src.reservation.model.entity.Reservation;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -11,47 +13,117 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
 
+    // 회원 예약 내역 - 예약 & 보관 테이블을 합쳐 페이지 단위로 id만 조회 (id 역순 = 최근 예약 순)
+    @Query(value = """
+            select h.id as id, h.archived as archived
+            from (
+                select r.id as id, 0 as archived
+                from reservation r
+                where r.member_id = :memberId
+                union all
+                select a.id as id, 1 as archived
+                from reservation_archive a
+                where a.member_id = :memberId
+            ) h
+            order by h.id desc
+            """,
+            countQuery = """
+            select (select count(*) from reservation r where r.member_id = :memberId)
+                 + (select count(*) from reservation_archive a where a.member_id = :memberId)
+            """,
+            nativeQuery = true)
+    Page<ReservationHistoryId> findAllReservationIds(@Param("memberId") Long memberId, Pageable pageable);
+
     @Query("""
             select r
             from Reservation r
-            left join r.member m
-            where m.id = :memberId
+            join fetch r.room rm
+            left join fetch rm.roomImage
+            join fetch rm.accommodationId a
+            join fetch a.discount
+            where r.id in :ids
             """)
-    Page<Reservation> findAllReservation(@Param("memberId") Long id, Pageable pageable);
+    List<Reservation> findAllWithRoomByIdIn(@Param("ids") Collection<Long> ids);
 
-    @Modifying(clearAutomatically = true)
+    // 퇴실일이 지난 이용 완료 예약 - 보관 테이블로 이동 대상
     @Query("""
-            update Reservation r
-            set r.isVisited = :isVisited
-            where r.checkIn = LOCAL_DATE
+            select r.id
+            from Reservation r
+            where r.checkOut <= :today
+            and r.isVisited in :finished
+            order by r.id
+            """)
+    List<Long> findFinishedIds(@Param("today") LocalDate today,
+                               @Param("finished") Collection<IsVisited> finished,
+                               Pageable pageable);
+
+    // 퇴실일이 [from, to] 사이이면서 아직 기한 만료 처리되지 않은 예약
+    // 기준일 당일 실행 이후 생성된 예약도 포함되도록 시작일 포함 (이미 전환된 예약은 상태 조건으로 제외)
+    @Query("""
+            select r.id
+            from Reservation r
+            where r.checkOut >= :from
+            and r.checkOut <= :to
+            and r.isVisited <> :overDue
+            order by r.id
+            """)
+    List<Long> findOverDueIds(@Param("from") LocalDate from,
+                              @Param("to") LocalDate to,
+                              @Param("overDue") IsVisited overDue,
+                              Pageable pageable);
+
+    // 입실일이 [from, to] 사이이고 퇴실 전인 미방문 예약 (당일 예약은 기준일 당일 실행 이후에 생성될 수 있으므로 시작일 포함)
+    @Query("""
+            select r.id
+            from Reservation r
+            where r.checkIn >= :from
+            and r.checkIn <= :to
+            and r.checkOut > :to
+            and r.isVisited = :notVisit
+            order by r.id
             """)
-    int updateOnReservationDay(@Param("isVisited") IsVisited isVisited);
+    List<Long> findVisitDateIds(@Param("from") LocalDate from,
+                                @Param("to") LocalDate to,
+                                @Param("notVisit") IsVisited notVisit,
+                                Pageable pageable);
 
-    @Modifying(clearAutomatically = true)
+    @Modifying
     @Query("""
             update Reservation r
             set r.isVisited = :isVisited
-            where r.checkOut <= LOCAL_DATE
+            where r.id in :ids
             """)
-    int updateReservationOverDue(@Param("isVisited") IsVisited isVisited);
+    int updateIsVisited(@Param("ids") List<Long> ids, @Param("isVisited") IsVisited isVisited);
 
     @Query("""
-            SELECT r
-            FROM Reservation r
-            WHERE r.room.id = :id
-            AND (
-                (r.checkIn >= :checkIn AND r.checkOut <= :checkOut)
-                OR (r.checkIn < :checkIn AND r.checkOut > :checkOut)
-                OR (r.checkIn < :checkOut AND r.checkOut > :checkIn)
-            )
+            select r
+            from Reservation r
+            where r.id = :reservationId
+            and r.member.id = :memberId
+            """)
+    Optional<Reservation> findByIdAndMemberId(@Param("reservationId") Long reservationId,
+                                              @Param("memberId") Long memberId);
+
+    // 숙박일(room_night)이 기록되지 않은 기존 예약 - 배포 후 1회 보정용
+    @Query("""
+            select r
+            from Reservation r
+            where r.checkOut > :today
+            and not exists (select n.id from RoomNight n where n.reservation = r)
+            """)
+    List<Reservation> findAllWithoutNights(@Param("today") LocalDate today);
+
+    @Query("""
+            select new com.core.miniproject.src.reservation.model.dto.ReservedPeriod(r.room.id, r.checkIn, r.checkOut)
+            from Reservation r
+            where r.checkOut > :today
             """)
-    List<Reservation> findReservationByCheckInAndCheckOutAndId(
-            @Param("checkIn") LocalDate checkIn,
-            @Param("checkOut") LocalDate checkOut,
-            @Param("id") Long roomId);
+    List<ReservedPeriod> findAllReservedPeriod(@Param("today") LocalDate today);
 }
@@ -0,0 +1,43 @@
+package com.core.miniproject.src.reservation.repository;
+
+import com.core.miniproject.src.reservation.model.dto.BookedNight;
+import com.core.miniproject.src.reservation.model.entity.RoomNight;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface RoomNightRepository extends JpaRepository<RoomNight, Long> {
+
+    // (room_id, night) 유니크 인덱스를 이용한 동등 조건 조회
+    @Query("""
+            select count(n) > 0
+            from RoomNight n
+            where n.roomId = :roomId
+            and n.night in :nights
+            """)
+    boolean existsByRoomIdAndNightIn(@Param("roomId") Long roomId, @Param("nights") Collection<LocalDate> nights);
+
+    // 여러 객실 & 숙박일을 한 번에 조회 (객실 x 숙박일 조합 중 실제 예약된 것만 반환)
+    @Query("""
+            select new com.core.miniproject.src.reservation.model.dto.BookedNight(n.roomId, n.night)
+            from RoomNight n
+            where n.roomId in :roomIds
+            and n.night in :nights
+            """)
+    List<BookedNight> findAllBookedNights(@Param("roomIds") Collection<Long> roomIds,
+                                          @Param("nights") Collection<LocalDate> nights);
+
+    @Modifying
+    @Query("""
+            delete from RoomNight n
+            where n.reservation.id in :reservationIds
+            """)
+    int deleteAllByReservationIdIn(@Param("reservationIds") Collection<Long> reservationIds);
+}
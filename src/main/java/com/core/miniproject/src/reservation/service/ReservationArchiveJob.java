@@ -0,0 +1,107 @@
+package com.core.miniproject.src.reservation.service;
+
+import com.core.miniproject.src.common.constant.IsVisited;
+import com.core.miniproject.src.common.entity.JobWatermark;
+import com.core.miniproject.src.common.repository.JobWatermarkRepository;
+import com.core.miniproject.src.reservation.repository.ReservationArchiveRepository;
+import com.core.miniproject.src.reservation.repository.ReservationRepository;
+import com.core.miniproject.src.reservation.repository.RoomNightRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 이용이 끝난 예약(퇴실일 경과 & 방문 완료 / 기한 만료)을 보관 테이블(reservation_archive)로 이동
+ * 청크마다 복사(INSERT ... SELECT) -> 숙박일 삭제 -> 예약 삭제를 한 트랜잭션으로 처리
+ */
+@Slf4j
+@Component
+public class ReservationArchiveJob {
+
+    private static final String JOB_NAME = "reservation-archive";
+    private static final int CHUNK_SIZE = 500;
+    private static final List<IsVisited> FINISHED = List.of(IsVisited.VISITED, IsVisited.OVERDUE);
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationArchiveRepository archiveRepository;
+    private final RoomNightRepository roomNightRepository;
+    private final JobWatermarkRepository watermarkRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Timer archiveTimer;
+    private final Counter archiveCounter;
+
+    public ReservationArchiveJob(ReservationRepository reservationRepository,
+                                 ReservationArchiveRepository archiveRepository,
+                                 RoomNightRepository roomNightRepository,
+                                 JobWatermarkRepository watermarkRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry) {
+        this.reservationRepository = reservationRepository;
+        this.archiveRepository = archiveRepository;
+        this.roomNightRepository = roomNightRepository;
+        this.watermarkRepository = watermarkRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.archiveTimer = meterRegistry.timer("reservation.archive.duration");
+        this.archiveCounter = meterRegistry.counter("reservation.archive.rows");
+    }
+
+    // 방문 여부 전환(ReservationVisitRollover) 이후에 실행되도록 지연 시작, 하루 한 번만 이동
+    @Scheduled(fixedDelay = 10 * 60 * 1000, initialDelay = 5 * 60 * 1000)
+    public void archive() {
+        LocalDate today = LocalDate.now();
+        LocalDate watermark = watermarkRepository.findById(JOB_NAME)
+                .map(JobWatermark::getWatermark)
+                .orElse(LocalDate.EPOCH);
+
+        if (!watermark.isBefore(today)) {
+            return;
+        }
+
+        archiveTimer.record(() -> {
+            int archived = archiveInChunks(today);
+            archiveCounter.increment(archived);
+
+            transactionTemplate.executeWithoutResult(status -> watermarkRepository.save(new JobWatermark(JOB_NAME, today)));
+
+            log.info("Reservation archive - today : {}, archived : {}", today, archived);
+        });
+    }
+
+    // 이동된 예약은 조회 대상에서 빠지므로 매번 첫 페이지만 조회
+    private int archiveInChunks(LocalDate today) {
+        Pageable chunk = PageRequest.of(0, CHUNK_SIZE);
+        int total = 0;
+
+        while (true) {
+            Integer moved = transactionTemplate.execute(status -> {
+                List<Long> ids = reservationRepository.findFinishedIds(today, FINISHED, chunk);
+
+                if (ids.isEmpty()) {
+                    return 0;
+                }
+
+                archiveRepository.archive(ids, today);
+                roomNightRepository.deleteAllByReservationIdIn(ids);
+                reservationRepository.deleteAllByIdInBatch(ids);
+                return ids.size();
+            });
+
+            total += moved;
+
+            if (moved < CHUNK_SIZE) {
+                return total;
+            }
+        }
+    }
+}
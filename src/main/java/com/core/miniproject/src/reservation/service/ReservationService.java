@@ -2,43 +2,120 @@ package com.core.miniproject.src.reservation.service;
 
 import com.core.miniproject.src.basket.domain.entity.Basket;
 import com.core.miniproject.src.basket.repository.BasketRepository;
+import com.core.miniproject.src.basket.service.BasketStore;
+import com.core.miniproject.src.basket.service.BasketWriteBehind;
+import com.core.miniproject.src.basket.service.RoomHoldStore;
 import com.core.miniproject.src.common.constant.IsVisited;
 import com.core.miniproject.src.common.exception.BaseException;
+import com.core.miniproject.src.common.outbox.OutboxEventRecorder;
 import com.core.miniproject.src.common.security.principal.MemberInfo;
 import com.core.miniproject.src.member.domain.entity.Member;
 import com.core.miniproject.src.member.repository.MemberRepository;
 import com.core.miniproject.src.reservation.model.dto.*;
+import com.core.miniproject.src.common.response.BaseResponseStatus;
 import com.core.miniproject.src.reservation.model.entity.Reservation;
+import com.core.miniproject.src.reservation.model.entity.RoomNight;
+import com.core.miniproject.src.reservation.repository.ReservationArchiveRepository;
 import com.core.miniproject.src.reservation.repository.ReservationRepository;
+import com.core.miniproject.src.reservation.repository.RoomNightRepository;
+import com.core.miniproject.src.reservation.service.RoomBookingEngine.Booking;
 import com.core.miniproject.src.room.domain.entity.Room;
 import com.core.miniproject.src.room.repository.RoomRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
+import static com.core.miniproject.src.common.outbox.DomainEventType.RESERVATION_CANCELED;
+import static com.core.miniproject.src.common.outbox.DomainEventType.RESERVATION_CREATED;
 import static com.core.miniproject.src.common.response.BaseResponseStatus.*;
 
 @RestController
 @RequiredArgsConstructor
 public class ReservationService {
 
+    // 예약 처리기 대기 제한 시간 - 멱등성 키 선점 TTL 도 이 값 기준으로 산정
+    public static final Duration BOOKING_TIMEOUT = Duration.ofSeconds(10);
+
     private final MemberRepository memberRepository;
     private final RoomRepository roomRepository;
     private final ReservationRepository reservationRepository;
+    private final ReservationArchiveRepository reservationArchiveRepository;
+    private final RoomNightRepository roomNightRepository;
     private final BasketRepository basketRepository;
-
-    @Transactional
+    private final BasketStore basketStore;
+    private final BasketWriteBehind basketWriteBehind;
+    private final RoomAvailabilityIndex availabilityIndex;
+    private final RoomHoldStore roomHoldStore;
+    private final OutboxEventRecorder outboxEventRecorder;
+    private final RoomBookingEngine bookingEngine;
+    private final TransactionTemplate transactionTemplate;
+
+    // 중복 확인 & 저장은 객실별 예약 처리기(RoomBookingEngine)에서 순서대로 처리 - 대기 중 DB 커넥션을 잡지 않도록 트랜잭션 X
     public ReservationInsertResponse registerReservation(ReservationInsertRequest request, MemberInfo memberInfo) {
 
         Reservation reservation = getReservationFromRequest(request, memberInfo);
+        reservation.assignNights();
+
+        Long memberId = reservation.getMember().getId();
+        if (roomHoldStore.isHeldByOther(request.getRoomId(), request.getCheckIn(), request.getCheckOut(), memberId)) {
+            throw new BaseException(ROOM_IS_HELD);
+        }
+
+        Reservation savedReservation = awaitBooking(bookingEngine.book(reservation));
+        roomHoldStore.release(request.getRoomId(), request.getCheckIn(), request.getCheckOut(), memberId);
+
+        return ReservationInsertResponse.toClient(savedReservation);
+    }
+
+    // 시간 초과 시 처리 전인 요청만 취소 - 이미 저장 중이면 실패로 응답하지 않고 저장 결과를 기다림 (예약은 생성되는데 실패 응답 X)
+    private Reservation awaitBooking(Booking booking) {
+        try {
+            return booking.future().get(BOOKING_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (TimeoutException e) {
+            if (booking.cancel()) {
+                throw new BaseException(BOOKING_TIMEOUT);
+            }
+            return awaitClaimed(booking);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (booking.cancel()) {
+                throw new BaseException(BOOKING_TIMEOUT);
+            }
+            return awaitClaimed(booking);
+        }
+    }
 
-        return ReservationInsertResponse.toClient(reservationRepository.save(reservation));
+    private Reservation awaitClaimed(Booking booking) {
+        try {
+            return booking.future().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException cause) {
+            return cause;
+        }
+        return new IllegalStateException(e.getCause());
     }
 
     private Reservation getReservationFromRequest(ReservationInsertRequest request, MemberInfo memberInfo) {
@@ -48,13 +125,6 @@ public class ReservationService {
         Room room = roomRepository.findById(request.getRoomId())
                 .orElseThrow(() -> new BaseException(ROOM_NOT_FOUND));
 
-        List<Reservation> reservation = reservationRepository.findReservationByCheckInAndCheckOutAndId(
-                request.getCheckIn(), request.getCheckOut(), room.getId());
-
-        if (!reservation.isEmpty()) {
-            throw new BaseException(RESERVATION_IS_DUPLICATE);
-        }
-
         return Reservation.builder()
                 .member(member)
                 .roomName(request.getRoomName())
@@ -69,28 +139,61 @@ public class ReservationService {
                 .build();
     }
 
+    // 예약 취소 - 숙박일(room_night)은 예약과 함께 삭제되어 다시 예약 가능
     @Transactional
+    public BaseResponseStatus cancelReservation(Long reservationId, MemberInfo memberInfo) {
+
+        Member member = emailValidate(memberInfo);
+
+        Reservation reservation = reservationRepository.findByIdAndMemberId(reservationId, member.getId())
+                .orElseThrow(() -> new BaseException(RESERVATION_NOT_FOUND));
+
+        reservationRepository.delete(reservation);
+        availabilityIndex.release(reservation.getRoom().getId(), reservation.getCheckIn(), reservation.getCheckOut());
+        outboxEventRecorder.record(RESERVATION_CANCELED, reservation);
+
+        return DELETE_SUCCESS;
+    }
+
+    // 방문 여부는 ReservationVisitRollover 에서 주기적으로 전환 - 조회 시에는 갱신하지 않음
+    @Transactional(readOnly = true)
     public ReservationResultResponse findAllReservation(MemberInfo memberInfo, Pageable pageable) {
 
         Member member = emailValidate(memberInfo);
 
-        isVisitValidate();
+        // 예약 & 보관 테이블을 합친 id 페이지 조회 후, 테이블별로 한 번씩 상세 조회
+        Page<ReservationHistoryId> historyIds =
+                reservationRepository.findAllReservationIds(member.getId(), pageable);
 
-        Page<Reservation> reservationList =
-                reservationRepository.findAllReservation(member.getId(), pageable);
+        List<Long> reservationIds = new ArrayList<>();
+        List<Long> archivedIds = new ArrayList<>();
+        historyIds.forEach(history -> (history.isArchived() ? archivedIds : reservationIds).add(history.getId()));
 
-        long totalElements = reservationList.getTotalElements();
+        Map<Long, ReservationResultDto> results = new HashMap<>();
+        if (!reservationIds.isEmpty()) {
+            reservationRepository.findAllWithRoomByIdIn(reservationIds)
+                    .forEach(reservation -> results.put(reservation.getId(), ReservationResultDto.toResponse(reservation)));
+        }
+        if (!archivedIds.isEmpty()) {
+            reservationArchiveRepository.findAllWithRoomByIdIn(archivedIds)
+                    .forEach(reservation -> results.put(reservation.getId(), ReservationResultDto.toResponse(reservation)));
+        }
 
-        List<ReservationResultDto> resultList = reservationList.stream()
-                .map(ReservationResultDto::toResponse)
+        List<ReservationResultDto> resultList = historyIds.stream()
+                .map(history -> results.get(history.getId()))
+                .filter(Objects::nonNull) // 조회 사이에 보관 테이블로 이동된 경우 제외
                 .collect(Collectors.toList());
 
-        return ReservationResultResponse.toClient(resultList, totalElements);
+        return ReservationResultResponse.toClient(resultList, historyIds.getTotalElements());
     }
 
-    private void isVisitValidate() {// 체크인 시간과 현재 날짜를 비교해 방문여부 전환
-        reservationRepository.updateReservationOverDue(IsVisited.OVERDUE);
-        reservationRepository.updateOnReservationDay(IsVisited.VISIT_DATE);
+    // 중복 확인 이후 동시에 들어온 예약은 room_night 유니크 제약에서 걸러짐
+    private List<Reservation> saveReservations(List<Reservation> reservations) {
+        try {
+            return reservationRepository.saveAllAndFlush(reservations);
+        } catch (DataIntegrityViolationException e) {
+            throw new BaseException(RESERVATION_IS_DUPLICATE);
+        }
     }
 
     private void insertReservationValidate(ReservationInsertRequest request) { // 체크인 & 체크아웃 날짜 논리 검증
@@ -112,23 +215,37 @@ public class ReservationService {
         return member;
     }
 
-    @Transactional
+    // Redis 에만 있는 장바구니를 먼저 DB에 반영 - 반영 잠금 대기 중 DB 커넥션을 잡지 않도록 트랜잭션 시작 전에 처리
     public List<ReservationListResponse> reservationFromBasket(ReservationBasketRequest request, MemberInfo memberInfo) {
 
+        basketWriteBehind.flush(memberInfo.getId());
+
+        return transactionTemplate.execute(status -> reserveBaskets(request, memberInfo));
+    }
+
+    // 장바구니 수와 관계없이 조회 2회(장바구니, 예약된 숙박일) + 삭제 1회 + 배치 INSERT 로 처리
+    private List<ReservationListResponse> reserveBaskets(ReservationBasketRequest request, MemberInfo memberInfo) {
+
         List<Long> baskIds = request.getBaskIds();
         // 해당 회원의 장바구니에 담긴 데이터를 예약쪽으로 전달
         List<Basket> selectedBasketList = basketRepository.findAllByMemberIdAndIdIn(memberInfo.getId(), baskIds);
 
+        if (selectedBasketList.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // 장바구니에 담긴 객실이 현재 시점에 예약이 되어있는지 한 번에 체크
+        Set<BookedNight> bookedNights = findBookedNights(selectedBasketList);
+
         List<Reservation> resultReservation = new ArrayList<>();
-        // 장바구니에 담긴 객실이 현재 시점에 예약이 되어있는지 다시한번 체크
         for (Basket basket : selectedBasketList) {
-            Long roomId = basket.getRoom().getId();
+            List<BookedNight> stay = BookedNight.of(basket.getRoom().getId(), basket.getCheckIn(), basket.getCheckOut());
 
-            List<Reservation> reservation = reservationRepository.findReservationByCheckInAndCheckOutAndId(
-                    basket.getCheckIn(), basket.getCheckOut(), roomId
-            );
+            boolean heldByOther = roomHoldStore.isHeldByOther(basket.getRoom().getId(), basket.getCheckIn(), basket.getCheckOut(), memberInfo.getId());
 
-            if (reservation.isEmpty()) { // 예약 중복이 없는 경우에만 필터링
+            // 예약 중복이 없고 선점이 만료된 사이 다른 회원이 선점하지 않은 경우에만 필터링
+            if (!heldByOther && stay.stream().noneMatch(bookedNights::contains)) {
+                bookedNights.addAll(stay); // 같은 요청 안의 장바구니끼리 겹치는 경우 먼저 담긴 장바구니만 예약
 
                 Reservation filteredReservation = Reservation.builder()
                         .member(basket.getMember())
@@ -142,21 +259,43 @@ public class ReservationService {
                         .isVisited(IsVisited.NOT_VISIT)
                         .room(basket.getRoom())
                         .build();
+                filteredReservation.assignNights();
 
                 resultReservation.add(filteredReservation);
-
-                basketRepository.deleteById(basket.getId()); // 예약 리스트 안에 들어간 장바구니 데이터 삭제
-            }else {
-
-                basketRepository.deleteById(basket.getId()); // 예약 시점 중복된 장바구니 데이터 삭제
             }
         }
 
-        List<Reservation> reservationList = reservationRepository.saveAll(resultReservation);
+        // 예약 리스트 안에 들어간 장바구니 & 예약 시점 중복된 장바구니 데이터 모두 삭제
+        List<Long> selectedIds = selectedBasketList.stream().map(Basket::getId).toList();
+        basketRepository.deleteAllByIdInBatch(selectedIds);
+        basketStore.evict(memberInfo.getId(), selectedIds);
+
+        List<Reservation> reservationList = saveReservations(resultReservation);
+        reservationList.forEach(reservation -> {
+            availabilityIndex.occupy(reservation.getRoom().getId(), reservation.getCheckIn(), reservation.getCheckOut());
+            roomHoldStore.release(reservation.getRoom().getId(), reservation.getCheckIn(), reservation.getCheckOut(), memberInfo.getId()); // 선점 -> 예약 전환
+            outboxEventRecorder.record(RESERVATION_CREATED, reservation);
+        });
 
         return reservationList
                 .stream()
                 .map(ReservationListResponse::toClient)
                 .collect(Collectors.toList());
     }
+
+    private Set<BookedNight> findBookedNights(List<Basket> baskets) {
+        Set<Long> roomIds = new HashSet<>();
+        Set<LocalDate> nights = new HashSet<>();
+
+        for (Basket basket : baskets) {
+            roomIds.add(basket.getRoom().getId());
+            nights.addAll(RoomNight.nightsOf(basket.getCheckIn(), basket.getCheckOut()));
+        }
+
+        if (nights.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        return new HashSet<>(roomNightRepository.findAllBookedNights(roomIds, nights));
+    }
 }
@@ -0,0 +1,100 @@
+package com.core.miniproject.src.reservation.service;
+
+import com.core.miniproject.src.common.constant.IsVisited;
+import com.core.miniproject.src.common.entity.JobWatermark;
+import com.core.miniproject.src.common.repository.JobWatermarkRepository;
+import com.core.miniproject.src.reservation.repository.ReservationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 예약 방문 여부 전환(미방문 -> 방문일, 퇴실일 경과 -> 기한 만료)
+ * 마지막 처리일(watermark)부터 오늘까지의 예약만 청크 단위로 갱신하고, 청크마다 트랜잭션을 나눠 잠금 범위를 제한
+ */
+@Slf4j
+@Component
+public class ReservationVisitRollover {
+
+    private static final String JOB_NAME = "reservation-visit-rollover";
+    private static final int CHUNK_SIZE = 500;
+
+    private final ReservationRepository reservationRepository;
+    private final JobWatermarkRepository watermarkRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Timer rolloverTimer;
+    private final Counter overDueCounter;
+    private final Counter visitDateCounter;
+
+    public ReservationVisitRollover(ReservationRepository reservationRepository,
+                                    JobWatermarkRepository watermarkRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    MeterRegistry meterRegistry) {
+        this.reservationRepository = reservationRepository;
+        this.watermarkRepository = watermarkRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.rolloverTimer = meterRegistry.timer("reservation.rollover.duration");
+        this.overDueCounter = meterRegistry.counter("reservation.rollover.rows", "status", IsVisited.OVERDUE.name());
+        this.visitDateCounter = meterRegistry.counter("reservation.rollover.rows", "status", IsVisited.VISIT_DATE.name());
+    }
+
+    // 날짜가 바뀐 뒤 첫 실행에서만 갱신, 같은 날 재실행 시에는 watermark 확인 후 종료
+    @Scheduled(fixedDelay = 10 * 60 * 1000)
+    public void rollover() {
+        LocalDate today = LocalDate.now();
+        LocalDate watermark = watermarkRepository.findById(JOB_NAME)
+                .map(JobWatermark::getWatermark)
+                .orElse(LocalDate.EPOCH);
+
+        if (!watermark.isBefore(today)) {
+            return;
+        }
+
+        rolloverTimer.record(() -> {
+            int overDue = updateInChunks(pageable ->
+                    reservationRepository.findOverDueIds(watermark, today, IsVisited.OVERDUE, pageable), IsVisited.OVERDUE);
+            int visitDate = updateInChunks(pageable ->
+                    reservationRepository.findVisitDateIds(watermark, today, IsVisited.NOT_VISIT, pageable), IsVisited.VISIT_DATE);
+
+            overDueCounter.increment(overDue);
+            visitDateCounter.increment(visitDate);
+
+            // 모든 청크가 반영된 뒤 기준일 저장(중간 실패 시 다음 실행에서 같은 구간을 다시 처리)
+            transactionTemplate.executeWithoutResult(status -> watermarkRepository.save(new JobWatermark(JOB_NAME, today)));
+
+            log.info("Reservation visit rollover - from : {}, to : {}, overdue : {}, visit date : {}",
+                    watermark, today, overDue, visitDate);
+        });
+    }
+
+    // 조회 조건에서 이미 전환된 예약은 제외되므로 매번 첫 페이지만 조회
+    private int updateInChunks(Function<Pageable, List<Long>> findIds, IsVisited isVisited) {
+        Pageable chunk = PageRequest.of(0, CHUNK_SIZE);
+        int total = 0;
+
+        while (true) {
+            Integer updated = transactionTemplate.execute(status -> {
+                List<Long> ids = findIds.apply(chunk);
+                return ids.isEmpty() ? 0 : reservationRepository.updateIsVisited(ids, isVisited);
+            });
+
+            total += updated;
+
+            if (updated < CHUNK_SIZE) {
+                return total;
+            }
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.core.miniproject.src.reservation.service;
+
+import com.core.miniproject.src.common.util.TransactionCallbacks;
+import com.core.miniproject.src.reservation.model.dto.ReservedPeriod;
+import com.core.miniproject.src.reservation.repository.ReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 객실별 예약된 숙박일을 비트셋으로 보관하는 메모리 인덱스
+ * 숙소 검색 시 예약 테이블 조인 없이 비트 연산으로 예약된 객실을 걸러내기 위함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomAvailabilityIndex {
+
+    // 비트 위치 = 숙박일(epoch day) - 기준일, 비트셋 크기를 작게 유지하기 위한 기준일
+    private static final long BASE_EPOCH_DAY = LocalDate.of(2024, 1, 1).toEpochDay();
+
+    private final ReservationRepository reservationRepository;
+
+    private volatile Map<Long, BitSet> nightsByRoom = new ConcurrentHashMap<>();
+
+    private final Object mutationLock = new Object();
+
+    // 재적재 중(DB 조회 ~ 교체) 반영된 예약 & 해제 - 새로 적재한 맵에 다시 적용, 재적재 중이 아니면 null
+    private List<Mutation> mutationsDuringReload;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    // 다른 인스턴스에서 생성된 예약을 반영하기 위해 주기적으로 재적재
+    // DB 조회 이후 커밋된 예약은 조회 결과에 없을 수 있으므로 교체 직전에 다시 적용
+    @Scheduled(fixedDelay = 5 * 60 * 1000, initialDelay = 5 * 60 * 1000)
+    public synchronized void reload() {
+        synchronized (mutationLock) {
+            mutationsDuringReload = new ArrayList<>();
+        }
+
+        List<ReservedPeriod> periods;
+        try {
+            periods = reservationRepository.findAllReservedPeriod(LocalDate.now());
+        } catch (RuntimeException e) {
+            synchronized (mutationLock) {
+                mutationsDuringReload = null;
+            }
+            throw e;
+        }
+
+        Map<Long, BitSet> loaded = new ConcurrentHashMap<>();
+        for (ReservedPeriod period : periods) {
+            BitSet nights = loaded.computeIfAbsent(period.getRoomId(), id -> new BitSet());
+            setNights(nights, period.getCheckIn(), period.getCheckOut(), true);
+        }
+
+        synchronized (mutationLock) {
+            mutationsDuringReload.forEach(mutation -> mutation.applyTo(loaded));
+            mutationsDuringReload = null;
+            nightsByRoom = loaded;
+        }
+
+        log.info("Room availability index loaded - rooms : {}, reservations : {}", loaded.size(), periods.size());
+    }
+
+    public boolean isAvailable(Long roomId, LocalDate checkIn, LocalDate checkOut) {
+        BitSet nights = nightsByRoom.get(roomId);
+
+        if (nights == null) {
+            return true;
+        }
+
+        BitSet stay = toStay(checkIn, checkOut);
+
+        synchronized (nights) {
+            return !nights.intersects(stay);
+        }
+    }
+
+    // 입실 ~ 퇴실 사이에 하루라도 예약된 객실 id 목록
+    public Set<Long> findBookedRoomIds(LocalDate checkIn, LocalDate checkOut) {
+        BitSet stay = toStay(checkIn, checkOut);
+        Set<Long> bookedRoomIds = new HashSet<>();
+
+        nightsByRoom.forEach((roomId, nights) -> {
+            synchronized (nights) {
+                if (nights.intersects(stay)) {
+                    bookedRoomIds.add(roomId);
+                }
+            }
+        });
+
+        return bookedRoomIds;
+    }
+
+    // 트랜잭션 안에서 호출된 경우 커밋 이후에 반영(롤백된 예약이 인덱스에 남지 않도록)
+    public void occupy(Long roomId, LocalDate checkIn, LocalDate checkOut) {
+        TransactionCallbacks.afterCommit(() -> mutate(new Mutation(roomId, checkIn, checkOut, true)));
+    }
+
+    public void release(Long roomId, LocalDate checkIn, LocalDate checkOut) {
+        TransactionCallbacks.afterCommit(() -> mutate(new Mutation(roomId, checkIn, checkOut, false)));
+    }
+
+    private void mutate(Mutation mutation) {
+        synchronized (mutationLock) {
+            mutation.applyTo(nightsByRoom);
+
+            if (mutationsDuringReload != null) {
+                mutationsDuringReload.add(mutation);
+            }
+        }
+    }
+
+    private static void setNights(BitSet nights, LocalDate checkIn, LocalDate checkOut, boolean booked) {
+        int from = toIndex(checkIn);
+        int to = toIndex(checkOut);
+
+        if (from >= to) {
+            return;
+        }
+
+        synchronized (nights) {
+            nights.set(from, to, booked);
+        }
+    }
+
+    private static BitSet toStay(LocalDate checkIn, LocalDate checkOut) {
+        BitSet stay = new BitSet();
+        int from = toIndex(checkIn);
+        int to = toIndex(checkOut);
+
+        if (from < to) {
+            stay.set(from, to);
+        }
+        return stay;
+    }
+
+    private static int toIndex(LocalDate date) {
+        return (int) Math.max(0, date.toEpochDay() - BASE_EPOCH_DAY);
+    }
+
+    private record Mutation(Long roomId, LocalDate checkIn, LocalDate checkOut, boolean booked) {
+
+        private void applyTo(Map<Long, BitSet> target) {
+            if (booked) {
+                setNights(target.computeIfAbsent(roomId, id -> new BitSet()), checkIn, checkOut, true);
+                return;
+            }
+
+            BitSet nights = target.get(roomId);
+            if (nights != null) {
+                setNights(nights, checkIn, checkOut, false);
+            }
+        }
+    }
+}
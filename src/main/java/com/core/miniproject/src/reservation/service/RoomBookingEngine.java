@@ -0,0 +1,242 @@
+package com.core.miniproject.src.reservation.service;
+
+import com.core.miniproject.src.common.exception.BaseException;
+import com.core.miniproject.src.common.outbox.OutboxEventRecorder;
+import com.core.miniproject.src.reservation.model.dto.BookedNight;
+import com.core.miniproject.src.reservation.model.entity.Reservation;
+import com.core.miniproject.src.reservation.repository.ReservationRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.core.miniproject.src.common.outbox.DomainEventType.RESERVATION_CREATED;
+import static com.core.miniproject.src.common.response.BaseResponseStatus.BOOKING_TIMEOUT;
+import static com.core.miniproject.src.common.response.BaseResponseStatus.RESERVATION_IS_DUPLICATE;
+
+/**
+ * 객실 단위 단일 쓰레드 예약 처리기
+ * 객실 id 로 샤드(단일 쓰레드 실행기)를 정해 같은 객실의 예약 요청은 항상 같은 쓰레드에서 순서대로 처리
+ * 중복 여부는 메모리 인덱스로 확인하고, 쌓인 요청을 작은 배치로 묶어 한 트랜잭션에 저장 (DB 잠금 경합 X)
+ * 다른 인스턴스에서 생성된 예약과의 충돌은 room_night 유니크 제약에서 걸러짐
+ */
+@Slf4j
+@Component
+public class RoomBookingEngine {
+
+    private static final int SHARD_COUNT = 8;
+    private static final int BATCH_SIZE = 20;
+
+    private final ReservationRepository reservationRepository;
+    private final RoomAvailabilityIndex availabilityIndex;
+    private final OutboxEventRecorder outboxEventRecorder;
+    private final TransactionTemplate transactionTemplate;
+
+    private final List<Shard> shards = new ArrayList<>(SHARD_COUNT);
+
+    public RoomBookingEngine(ReservationRepository reservationRepository,
+                             RoomAvailabilityIndex availabilityIndex,
+                             OutboxEventRecorder outboxEventRecorder,
+                             PlatformTransactionManager transactionManager) {
+        this.reservationRepository = reservationRepository;
+        this.availabilityIndex = availabilityIndex;
+        this.outboxEventRecorder = outboxEventRecorder;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            shards.add(new Shard(i));
+        }
+    }
+
+    /**
+     * 예약 요청을 객실 샤드에 등록, 저장이 끝나면 저장된 예약으로 완료
+     * 이미 예약된 숙박일이면 RESERVATION_IS_DUPLICATE 예외로 완료
+     */
+    public Booking book(Reservation reservation) {
+        Booking request = new Booking(reservation);
+
+        Shard shard = shards.get(Math.floorMod(reservation.getRoom().getId().hashCode(), SHARD_COUNT));
+        shard.submit(request);
+
+        return request;
+    }
+
+    private void process(List<Booking> requests) {
+        List<Booking> accepted = new ArrayList<>();
+        Set<BookedNight> claimedNights = new HashSet<>(); // 같은 배치 안에서 먼저 접수된 요청이 차지한 숙박일
+
+        for (Booking request : requests) {
+            if (!request.claim()) {
+                continue; // 대기 중 취소됨 (응답 시간 초과)
+            }
+
+            Reservation reservation = request.reservation();
+            Long roomId = reservation.getRoom().getId();
+            List<BookedNight> stay = BookedNight.of(roomId, reservation.getCheckIn(), reservation.getCheckOut());
+
+            if (!availabilityIndex.isAvailable(roomId, reservation.getCheckIn(), reservation.getCheckOut())
+                    || stay.stream().anyMatch(claimedNights::contains)) {
+                request.future().completeExceptionally(new BaseException(RESERVATION_IS_DUPLICATE));
+                continue;
+            }
+
+            claimedNights.addAll(stay);
+            accepted.add(request);
+        }
+
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        try {
+            commit(accepted);
+        } catch (DataIntegrityViolationException e) { // 다른 인스턴스의 예약과 충돌 - 요청별로 다시 저장해 충돌한 요청만 실패 처리
+            // 롤백 전에 할당된 id가 남은 엔티티는 merge 대상이 되므로 새 엔티티로 다시 만들어 저장
+            accepted.forEach(request -> {
+                request.renew();
+                commit(List.of(request));
+            });
+        } catch (RuntimeException e) {
+            log.error("Booking batch commit failed - size : {}", accepted.size(), e);
+            accepted.forEach(request -> request.future().completeExceptionally(e));
+        }
+    }
+
+    private void commit(List<Booking> requests) {
+        List<Reservation> reservations = requests.stream().map(Booking::reservation).toList();
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                reservationRepository.saveAllAndFlush(reservations);
+                reservations.forEach(reservation -> outboxEventRecorder.record(RESERVATION_CREATED, reservation));
+            });
+        } catch (DataIntegrityViolationException e) {
+            if (requests.size() > 1) {
+                throw e;
+            }
+            requests.get(0).future().completeExceptionally(new BaseException(RESERVATION_IS_DUPLICATE));
+            return;
+        }
+
+        // 트랜잭션 밖이므로 인덱스에 바로 반영 (검색 캐시는 outbox 이벤트로 삭제)
+        for (Booking request : requests) {
+            Reservation reservation = request.reservation();
+            availabilityIndex.occupy(reservation.getRoom().getId(), reservation.getCheckIn(), reservation.getCheckOut());
+            request.future().complete(reservation);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        shards.forEach(Shard::shutdown);
+    }
+
+    /**
+     * 접수된 예약 요청 - 처리기가 저장을 시작하기 전(PENDING)에만 취소 가능
+     * 처리기(claim)와 취소(cancel) 중 먼저 상태를 바꾼 쪽만 유효
+     */
+    public static final class Booking {
+
+        private enum State { PENDING, CLAIMED, CANCELED }
+
+        private Reservation reservation;
+        private final CompletableFuture<Reservation> future = new CompletableFuture<>();
+        private final AtomicReference<State> state = new AtomicReference<>(State.PENDING);
+
+        private Booking(Reservation reservation) {
+            this.reservation = reservation;
+        }
+
+        public CompletableFuture<Reservation> future() {
+            return future;
+        }
+
+        /**
+         * @return 취소 성공 여부 - 이미 처리가 시작된 요청이면 false (저장 결과로 완료되므로 future 를 기다려야 함)
+         */
+        public boolean cancel() {
+            if (!state.compareAndSet(State.PENDING, State.CANCELED)) {
+                return false;
+            }
+            future.completeExceptionally(new BaseException(BOOKING_TIMEOUT));
+            return true;
+        }
+
+        private boolean claim() {
+            return state.compareAndSet(State.PENDING, State.CLAIMED);
+        }
+
+        private Reservation reservation() {
+            return reservation;
+        }
+
+        private void renew() {
+            this.reservation = reservation.copyWithoutId();
+        }
+    }
+
+    // 단일 쓰레드 실행기 + 대기열 - 실행 시점까지 쌓인 요청을 BATCH_SIZE 만큼씩 꺼내 처리
+    private final class Shard {
+
+        private final ExecutorService executor;
+        private final Queue<Booking> queue = new ConcurrentLinkedQueue<>();
+
+        private Shard(int index) {
+            AtomicInteger sequence = new AtomicInteger();
+            this.executor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "booking-shard-" + index + "-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        private void submit(Booking request) {
+            queue.add(request);
+
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) { // 종료 중
+                queue.remove(request);
+                request.future().completeExceptionally(e);
+            }
+        }
+
+        private void drain() {
+            List<Booking> batch = new ArrayList<>(BATCH_SIZE);
+            Booking request;
+
+            while ((request = queue.poll()) != null) {
+                batch.add(request);
+
+                if (batch.size() == BATCH_SIZE) {
+                    processSafely(batch);
+                    batch = new ArrayList<>(BATCH_SIZE);
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                processSafely(batch);
+            }
+        }
+
+        private void processSafely(List<Booking> batch) {
+            try {
+                process(batch);
+            } catch (RuntimeException e) {
+                log.error("Booking shard failed - size : {}", batch.size(), e);
+                batch.forEach(request -> request.future().completeExceptionally(e));
+            }
+        }
+
+        private void shutdown() {
+            executor.shutdown();
+        }
+    }
+}
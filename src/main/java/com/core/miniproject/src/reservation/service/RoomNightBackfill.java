@@ -0,0 +1,86 @@
+package com.core.miniproject.src.reservation.service;
+
+import com.core.miniproject.src.reservation.model.dto.BookedNight;
+import com.core.miniproject.src.reservation.model.entity.Reservation;
+import com.core.miniproject.src.reservation.model.entity.RoomNight;
+import com.core.miniproject.src.reservation.repository.ReservationRepository;
+import com.core.miniproject.src.reservation.repository.RoomNightRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * room_night 도입 이전에 생성된 예약의 숙박일 보정
+ * 숙박일이 없는 예약만 대상으로 하므로 이미 보정된 이후에는 조회 결과가 없음
+ * 예약마다 별도 트랜잭션으로 처리 - 겹치는 예약이 있어도 나머지 예약의 보정은 계속 진행
+ */
+@Slf4j
+@Component
+public class RoomNightBackfill {
+
+    private final ReservationRepository reservationRepository;
+    private final RoomNightRepository roomNightRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public RoomNightBackfill(ReservationRepository reservationRepository,
+                             RoomNightRepository roomNightRepository,
+                             PlatformTransactionManager transactionManager) {
+        this.reservationRepository = reservationRepository;
+        this.roomNightRepository = roomNightRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        List<Long> reservationIds = reservationRepository.findAllWithoutNights(LocalDate.now()).stream()
+                .map(Reservation::getId)
+                .toList();
+
+        if (reservationIds.isEmpty()) {
+            return;
+        }
+
+        int overlapped = 0;
+        for (Long reservationId : reservationIds) {
+            try {
+                assign(reservationId, false);
+            } catch (DataIntegrityViolationException e) {
+                // 기존 데이터에 겹치는 예약이 있는 경우 - 겹친 숙박일은 먼저 보정된 예약이 차지하고 있으므로 나머지 숙박일만 기록
+                log.warn("Room night backfill - overlapping reservation : {}", reservationId);
+                assign(reservationId, true);
+                overlapped++;
+            }
+        }
+
+        log.info("Room night backfill - reservations : {}, overlapped : {}", reservationIds.size(), overlapped);
+    }
+
+    private void assign(Long reservationId, boolean skipTakenNights) {
+        transactionTemplate.executeWithoutResult(status -> reservationRepository.findById(reservationId)
+                .ifPresent(reservation -> {
+                    if (skipTakenNights) {
+                        reservation.assignNightsExcept(takenNights(reservation));
+                    } else {
+                        reservation.assignNights();
+                    }
+                    reservationRepository.flush();
+                }));
+    }
+
+    private Set<LocalDate> takenNights(Reservation reservation) {
+        List<LocalDate> nights = RoomNight.nightsOf(reservation.getCheckIn(), reservation.getCheckOut());
+
+        return roomNightRepository.findAllBookedNights(List.of(reservation.getRoom().getId()), nights).stream()
+                .map(BookedNight::getNight)
+                .collect(Collectors.toSet());
+    }
+}
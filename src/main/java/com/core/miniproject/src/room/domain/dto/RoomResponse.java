@@ -2,6 +2,7 @@ package com.core.miniproject.src.room.domain.dto;
 
 
 import com.core.miniproject.src.accommodation.domain.entity.Accommodation;
+import com.core.miniproject.src.image.domain.entity.ImageSize;
 import com.core.miniproject.src.room.domain.entity.Room;
 import lombok.*;
 
@@ -31,4 +32,16 @@ public class RoomResponse {
                 .roomImage(room.getRoomImage().getImagePath())
                 .build();
     }
+
+    public static RoomResponse toClient(RoomSummary room, ImageSize size){
+        return RoomResponse.builder()
+                .id(room.id())
+                .roomName(room.roomName())
+                .roomInfo(room.roomInfo())
+                .fixedMember(room.fixedMember())
+                .maxedMember(room.maxedMember())
+                .price(room.price())
+                .roomImage(size.select(room.roomImage(), room.roomMediumImage(), room.roomThumbnailImage()))
+                .build();
+    }
 }
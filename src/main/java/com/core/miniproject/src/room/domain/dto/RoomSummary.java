@@ -0,0 +1,18 @@
+package com.core.miniproject.src.room.domain.dto;
+
+/**
+ * 숙소 목록 응답용 객실 projection (객실 이미지 경로 포함)
+ */
+public record RoomSummary(
+        Long accommodationId,
+        Long id,
+        String roomName,
+        String roomInfo,
+        int fixedMember,
+        int maxedMember,
+        Integer price,
+        String roomImage,
+        String roomMediumImage,
+        String roomThumbnailImage
+) {
+}
@@ -20,7 +20,8 @@ import java.util.Set;
 public class Room {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "room_seq_generator")
+    @SequenceGenerator(name = "room_seq_generator", sequenceName = "room_seq", allocationSize = 50)
     @Column(name="room_id")
     private Long id;
 
@@ -1,10 +1,13 @@
 package com.core.miniproject.src.room.repository;
 
+import com.core.miniproject.src.room.domain.dto.RoomSummary;
 import com.core.miniproject.src.room.domain.entity.Room;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -37,4 +40,34 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
     and r.isDeleted=false
     """)
     Optional<Room> findByRoomId(Long id);
+
+    // 숙소 목록 응답용 - 인원 조건을 만족하고 예약되지 않은 객실만 이미지 경로와 함께 조회
+    @Query("""
+    select new com.core.miniproject.src.room.domain.dto.RoomSummary(
+        r.accommodationId.id, r.id, r.roomName, r.roomInfo, r.fixedMember, r.maxedMember, r.price,
+        ri.imagePath, ri.mediumPath, ri.thumbnailPath)
+    from Room r
+    left join r.roomImage ri
+    where r.accommodationId.id in :accommodationIds
+    and r.isDeleted=false
+    and r.fixedMember >= :personal
+    and r.id not in :bookedRoomIds
+    order by r.id
+    """)
+    List<RoomSummary> findSummariesByAccommodationIdIn(@Param("accommodationIds") Collection<Long> accommodationIds,
+                                                       @Param("bookedRoomIds") Collection<Long> bookedRoomIds,
+                                                       @Param("personal") Integer personal);
+
+    // 장바구니 일괄 담기 - 숙소, 지역, 할인, 이미지까지 한 번에 조회
+    @Query("""
+    select r from Room r
+    join fetch r.accommodationId a
+    join fetch a.location
+    join fetch a.discount
+    left join fetch r.roomImage
+    where r.id in :ids
+    and a.isDeleted=false
+    and r.isDeleted=false
+    """)
+    List<Room> findAllAvailableByIdIn(@Param("ids") Collection<Long> ids);
 }
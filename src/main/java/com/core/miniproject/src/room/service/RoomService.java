@@ -3,11 +3,13 @@ package com.core.miniproject.src.room.service;
 import com.core.miniproject.src.accommodation.domain.entity.Accommodation;
 import com.core.miniproject.src.accommodation.repository.AccommodationRepository;
 import com.core.miniproject.src.common.exception.BaseException;
+import com.core.miniproject.src.common.outbox.OutboxEventRecorder;
 import com.core.miniproject.src.common.response.BaseResponseStatus;
 import com.core.miniproject.src.common.security.principal.MemberInfo;
 import com.core.miniproject.src.common.util.RoomUploader;
 import com.core.miniproject.src.image.domain.entity.RoomImage;
 import com.core.miniproject.src.image.repository.RoomImageRepository;
+import com.core.miniproject.src.image.service.StoredImageService;
 import com.core.miniproject.src.room.domain.dto.RoomInsertRequest;
 import com.core.miniproject.src.room.domain.dto.RoomInsertResponse;
 import com.core.miniproject.src.room.domain.dto.RoomRequest;
@@ -18,12 +20,16 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
+import static com.core.miniproject.src.common.outbox.DomainEventType.ROOM_CREATED;
+import static com.core.miniproject.src.common.outbox.DomainEventType.ROOM_DELETED;
+import static com.core.miniproject.src.common.outbox.DomainEventType.ROOM_UPDATED;
 import static com.core.miniproject.src.common.response.BaseResponseStatus.*;
 
 @Service
@@ -35,20 +41,35 @@ public class RoomService {
     private final AccommodationRepository accommodationRepository;
     private final RoomRepository roomRepository;
     private final RoomImageRepository imageRepository;
+    private final OutboxEventRecorder outboxEventRecorder;
+    private final StoredImageService storedImageService;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    // 이미지 업로드(네트워크 I/O)는 트랜잭션 밖에서 먼저 처리하고, DB 저장만 짧은 트랜잭션으로 실행
     public RoomInsertResponse createRoom(
             Long accommodationId,
             RoomInsertRequest request, MultipartFile multipartFile, MemberInfo memberInfo)
     {
-        Accommodation accommodation = accommodationRepository.findById(accommodationId)
-                .orElseThrow(() -> new BaseException(ACCOMMODATION_DOES_NOT_EXIST));
+        validateRoomRequest(request);
+
+        // 업로드 전에 DB를 조회하면 OSIV 로 커넥션이 업로드 동안 유지되므로 숙소 확인도 트랜잭션 안에서 처리
+        String imagePath = uploadImage(multipartFile);
+
+        // 롤백된 경우 올라간 이미지는 참조 없이 남으므로 StoredImageCollector 가 정리
+        return transactionTemplate.execute(status -> {
+            Accommodation accommodation = accommodationRepository.findById(accommodationId)
+                    .orElseThrow(() -> new BaseException(ACCOMMODATION_DOES_NOT_EXIST));
+
+            Room room = getRoomForRequest(request, imagePath, accommodation);
 
-        Room room = getRoomForRequest(request, multipartFile, accommodation);
+            room.getRoomImage().assignRoom(room);
 
-        room.getRoomImage().assignRoom(room);
+            Room savedRoom = roomRepository.saveAndFlush(room); // 시퀀스 id는 INSERT 가 지연되므로 최저가 갱신 전에 반영
+            accommodationRepository.refreshMinPrice(accommodation.getId()); // 숙소 최저가 갱신
+            outboxEventRecorder.record(ROOM_CREATED, savedRoom.getId(), accommodation);
 
-        return RoomInsertResponse.toClient(roomRepository.save(room));
+            return RoomInsertResponse.toClient(savedRoom);
+        });
     }
 
     @Transactional
@@ -70,7 +91,13 @@ public class RoomService {
                 () -> new BaseException(ROOM_NOT_FOUND)
         );
         try {
+            if (room.getRoomImage() != null) { // 객실 이미지는 객실과 함께 삭제 - 참조 해제
+                storedImageService.release(room.getRoomImage().getContentHash());
+            }
             roomRepository.deleteById(room.getId());
+            roomRepository.flush(); // 최저가 갱신 전에 객실 삭제(is_deleted) 반영
+            accommodationRepository.refreshMinPrice(accommodationId);
+            outboxEventRecorder.record(ROOM_DELETED, room.getId(), room.getAccommodationId());
             return BaseResponseStatus.DELETE_SUCCESS;
         }catch (Exception e){
             throw new BaseException(BaseResponseStatus.DELETE_FAIL);
@@ -84,28 +111,36 @@ public class RoomService {
         );
         RoomImage image = getImageForRequest(request, room);
         room.update(request, image);
-        return RoomResponse.toClient(roomRepository.save(room));
+
+        Room updatedRoom = roomRepository.saveAndFlush(room); // 최저가 갱신 전에 변경된 가격 반영
+        accommodationRepository.refreshMinPrice(accommodationId);
+        outboxEventRecorder.record(ROOM_UPDATED, updatedRoom.getId(), room.getAccommodationId());
+
+        return RoomResponse.toClient(updatedRoom);
     }
 
-    private Room getRoomForRequest(RoomInsertRequest request, MultipartFile multipartFile, Accommodation accommodation) {
+    private void validateRoomRequest(RoomInsertRequest request) {
         numberOfPeopleValidate(request);
         requiredInfoValidate(request);
         roomPricePolicyValidate(request); // 가격 설정 정책을 지키지 못했다는 것을 따로 표시하기 위해 검증문 분리 설정
+    }
 
+    private String uploadImage(MultipartFile multipartFile) {
+        if (multipartFile == null) {
+            return "";
+        }
 
-        String fileName = "";
-        if(multipartFile != null) {
-
-            try {
-                fileName = imageUploader.upload(multipartFile, "images");
-            } catch (IOException e) {
-
-                throw new IllegalArgumentException("업로드 오류");
-            }
+        try {
+            return imageUploader.upload(multipartFile);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("업로드 오류");
         }
+    }
 
+    private Room getRoomForRequest(RoomInsertRequest request, String imagePath, Accommodation accommodation) {
         RoomImage image = RoomImage.builder()
-                .imagePath(fileName)
+                .imagePath(imagePath)
+                .contentHash(storedImageService.reference(imagePath))
                 .build();
 
         RoomImage roomImage = imageRepository.save(image);
@@ -147,7 +182,8 @@ public class RoomService {
     private RoomImage getImageForRequest (RoomRequest request, Room room){
         if(!request.getImagePath().equals(room.getRoomImage().getImagePath())){
             RoomImage existedImage = room.getRoomImage();
-            existedImage.updateImagePath(request.getImagePath());
+            storedImageService.release(existedImage.getContentHash());
+            existedImage.updateImagePath(request.getImagePath(), storedImageService.reference(request.getImagePath()));
             return existedImage;
         }else{
             return room.getRoomImage();
@@ -0,0 +1,36 @@
+package com.core.miniproject.src.accommodation.domain.dto;
+
+import com.core.miniproject.src.common.exception.BaseException;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class AccommodationCursorTest {
+
+    @Test
+    void 인코딩한_커서를_그대로_복원() {
+        AccommodationCursor decoded = AccommodationCursor.decode(new AccommodationCursor(85000, 42L).encode());
+
+        assertThat(decoded.getMinPrice()).isEqualTo(85000);
+        assertThat(decoded.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    void 커서가_없으면_첫_페이지() {
+        AccommodationCursor first = AccommodationCursor.decode(null);
+
+        assertThat(first.getMinPrice()).isEqualTo(-1);
+        assertThat(first.getId()).isZero();
+    }
+
+    @Test
+    void 잘못된_커서는_예외() {
+        assertThatThrownBy(() -> AccommodationCursor.decode("not-a-cursor"))
+                .isInstanceOf(BaseException.class);
+    }
+}
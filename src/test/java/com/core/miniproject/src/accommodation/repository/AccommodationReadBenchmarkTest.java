@@ -0,0 +1,203 @@
+package com.core.miniproject.src.accommodation.repository;
+
+import com.core.miniproject.src.accommodation.domain.dto.AccommodationAllDto;
+import com.core.miniproject.src.accommodation.domain.dto.AccommodationSummary;
+import com.core.miniproject.src.accommodation.domain.entity.Accommodation;
+import com.core.miniproject.src.accommodation.domain.entity.AccommodationType;
+import com.core.miniproject.src.accommodation.domain.entity.Discount;
+import com.core.miniproject.src.image.domain.dto.ImageResponse;
+import com.core.miniproject.src.image.domain.dto.ImageSummary;
+import com.core.miniproject.src.image.domain.entity.AccommodationImage;
+import com.core.miniproject.src.image.domain.entity.RoomImage;
+import com.core.miniproject.src.image.repository.AccommodationImageRepository;
+import com.core.miniproject.src.location.domain.entity.Location;
+import com.core.miniproject.src.location.domain.entity.LocationType;
+import com.core.miniproject.src.room.domain.dto.RoomResponse;
+import com.core.miniproject.src.room.domain.dto.RoomSummary;
+import com.core.miniproject.src.room.domain.entity.Room;
+import com.core.miniproject.src.room.repository.RoomRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 엔티티 조회 방식과 projection 조회 방식의 숙소 목록 응답 생성 비용(힙 할당량, 시간) 비교
+// ./gradlew benchmark 로 실행 (기본 test 태스크에서는 제외)
+@Tag("benchmark")
+@DataJpaTest
+class AccommodationReadBenchmarkTest {
+
+    private static final int ACCOMMODATION_COUNT = 200;
+    private static final int ROOM_COUNT = 5;
+    private static final int IMAGE_COUNT = 3;
+    private static final int PAGE_SIZE = 50;
+    private static final int WARM_UP = 20;
+    private static final int ITERATION = 100;
+
+    @Autowired
+    EntityManager em;
+    @Autowired
+    AccommodationRepository accommodationRepository;
+    @Autowired
+    RoomRepository roomRepository;
+    @Autowired
+    AccommodationImageRepository imageRepository;
+
+    List<Long> bookedRoomIds = List.of(0L);
+
+    @BeforeEach
+    void setUp() {
+        Location location = Location.builder().locationName(LocationType.SEOUL).build();
+        Discount discount = Discount.builder().discountRate(0.1).build();
+        em.persist(location);
+        em.persist(discount);
+
+        for (int i = 0; i < ACCOMMODATION_COUNT; i++) {
+            Accommodation accommodation = Accommodation.builder()
+                    .accommodationName("벤치마크 호텔 " + i)
+                    .accommodationType(AccommodationType.HOTEL)
+                    .introduction("벤치마크용 숙소입니다.")
+                    .address("서울시 중구 " + i)
+                    .location(location)
+                    .discount(discount)
+                    .minPrice(100000 + i)
+                    .rateSum(4.5 * i)
+                    .rateCount(i)
+                    .build();
+            em.persist(accommodation);
+
+            for (int j = 0; j < ROOM_COUNT; j++) {
+                Room room = Room.builder()
+                        .accommodationId(accommodation)
+                        .roomName("디럭스 " + j)
+                        .roomInfo("깨끗한 객실")
+                        .fixedMember(2)
+                        .maxedMember(4)
+                        .price(100000 + i + j)
+                        .build();
+                em.persist(room);
+                em.persist(new RoomImage("room/" + i + "/" + j + ".png", room));
+            }
+
+            for (int j = 0; j < IMAGE_COUNT; j++) {
+                em.persist(AccommodationImage.builder()
+                        .accommodation(accommodation)
+                        .imagePath("accommodation/" + i + "/" + j + ".png")
+                        .build());
+            }
+        }
+
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void 엔티티_조회와_projection_조회_비교() {
+        List<Long> ids = accommodationRepository.findAccommodationIds(
+                bookedRoomIds, LocationType.SEOUL, AccommodationType.HOTEL, 2, PageRequest.of(0, PAGE_SIZE));
+
+        List<AccommodationAllDto> byEntity = readByEntity(ids);
+        List<AccommodationAllDto> byProjection = readByProjection(ids);
+
+        assertThat(byProjection).hasSameSizeAs(byEntity);
+        assertThat(byProjection.get(0).getRoom()).hasSize(ROOM_COUNT);
+        assertThat(byProjection.get(0).getAccommodationImage()).hasSize(IMAGE_COUNT);
+
+        Result entity = measure(() -> readByEntity(ids));
+        Result projection = measure(() -> readByProjection(ids));
+
+        System.out.printf("[entity]     avg %.2f ms, %d KB / call%n", entity.avgMillis(), entity.avgBytes() / 1024);
+        System.out.printf("[projection] avg %.2f ms, %d KB / call%n", projection.avgMillis(), projection.avgBytes() / 1024);
+    }
+
+    // 비교 기준인 엔티티 조회 방식 - 객실 & 이미지 컬렉션을 fetch join 으로 나눠 조회
+    private List<AccommodationAllDto> readByEntity(List<Long> ids) {
+        List<Accommodation> accommodations = em.createQuery("""
+                        SELECT DISTINCT a
+                        FROM Accommodation a
+                        LEFT JOIN FETCH a.roomId roomId
+                        LEFT JOIN FETCH roomId.roomImage
+                        LEFT JOIN FETCH a.discount
+                        LEFT JOIN FETCH a.location
+                        WHERE a.id IN :ids
+                        AND roomId.isDeleted=false
+                        AND roomId.fixedMember >= :personal
+                        AND roomId.id NOT IN :bookedRoomIds
+                        """, Accommodation.class)
+                .setParameter("ids", ids)
+                .setParameter("bookedRoomIds", bookedRoomIds)
+                .setParameter("personal", 2)
+                .getResultList();
+
+        em.createQuery("""
+                        SELECT DISTINCT a
+                        FROM Accommodation a
+                        LEFT JOIN FETCH a.images
+                        WHERE a.id IN :ids
+                        """, Accommodation.class)
+                .setParameter("ids", ids)
+                .getResultList();
+
+        return accommodations.stream()
+                .map(AccommodationAllDto::toClient)
+                .collect(Collectors.toList());
+    }
+
+    private List<AccommodationAllDto> readByProjection(List<Long> ids) {
+        List<AccommodationSummary> summaries = accommodationRepository.findSummariesByIdIn(ids);
+
+        Map<Long, List<RoomResponse>> rooms = roomRepository.findSummariesByAccommodationIdIn(ids, bookedRoomIds, 2).stream()
+                .collect(Collectors.groupingBy(RoomSummary::accommodationId,
+                        Collectors.mapping(RoomResponse::toClient, Collectors.toList())));
+        Map<Long, List<ImageResponse>> images = imageRepository.findSummariesByAccommodationIdIn(ids).stream()
+                .collect(Collectors.groupingBy(ImageSummary::accommodationId,
+                        Collectors.mapping(ImageResponse::toClient, Collectors.toList())));
+
+        return summaries.stream()
+                .map(summary -> AccommodationAllDto.toClient(summary,
+                        images.getOrDefault(summary.id(), Collections.emptyList()),
+                        rooms.getOrDefault(summary.id(), Collections.emptyList())))
+                .collect(Collectors.toList());
+    }
+
+    // 매 호출마다 영속성 컨텍스트를 비워 1차 캐시 효과를 제외
+    private Result measure(Supplier<List<AccommodationAllDto>> read) {
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        for (int i = 0; i < WARM_UP; i++) {
+            read.get();
+            em.clear();
+        }
+
+        long totalNanos = 0;
+        long totalBytes = 0;
+        for (int i = 0; i < ITERATION; i++) {
+            long bytes = threadBean.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+
+            read.get();
+            em.clear();
+
+            totalNanos += System.nanoTime() - start;
+            totalBytes += threadBean.getThreadAllocatedBytes(threadId) - bytes;
+        }
+
+        return new Result(totalNanos / ITERATION / 1_000_000.0, totalBytes / ITERATION);
+    }
+
+    private record Result(double avgMillis, long avgBytes) {
+    }
+}
@@ -15,6 +15,7 @@ import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
@@ -33,6 +34,8 @@ class AccommodationRepositoryTest {
     DiscountRepository discountRepository;
     @Autowired
     RateRepository rateRepository;
+    @Autowired
+    TestEntityManager em;
 
     @Test //room 테이블 연관관계 추가
     @Transactional
@@ -348,6 +351,8 @@ class AccommodationRepositoryTest {
         Accommodation newAccommodation = accommodationRepository.save(accommodation);
         Rate newRate = rateRepository.save(rate);
         roomRepository.save(room);
+        accommodationRepository.increaseRate(newAccommodation.getId(), newRate.getRate()); // 별점 생성 시 함께 갱신되는 합계 & 개수
+        em.clear();
 
         Accommodation result = accommodationRepository.findByAccommodationId(newAccommodation.getId()).orElseThrow();
 
@@ -377,9 +382,7 @@ class AccommodationRepositoryTest {
                 .maxedMember(4)
                 .price(100000)
                 .build();
-        roomRepository.save(room1);
-        roomRepository.save(room2);
-        Set<Room> rooms = Set.copyOf(roomRepository.findAll());
+        List<Room> rooms = List.of(room1, room2);
 
         Accommodation accommodation = Accommodation.builder()
                 .introduction("테스트 호텔입니다.")
@@ -388,12 +391,27 @@ class AccommodationRepositoryTest {
                 .rates(null)
                 .location(Location.builder().id(1L).build())
                 .discount(Discount.builder().id(1L).build())
-                .roomId(rooms)
+                .roomId(new HashSet<>())
                 .build();
 
         Accommodation newAccommodation = accommodationRepository.save(accommodation);
 
         //when
+        // 최저가는 저장된 값(min_price) - 객실 생성 & 수정 & 삭제 시처럼 객실을 숙소에 연결해 저장한 뒤 갱신
+        for (Room room : rooms) {
+            roomRepository.save(Room.builder()
+                    .roomName(room.getRoomName())
+                    .roomInfo(room.getRoomInfo())
+                    .fixedMember(room.getFixedMember())
+                    .maxedMember(room.getMaxedMember())
+                    .price(room.getPrice())
+                    .accommodationId(newAccommodation)
+                    .build());
+        }
+        roomRepository.flush();
+        accommodationRepository.refreshMinPrice(newAccommodation.getId());
+        em.clear();
+
         Accommodation accommodation1 = accommodationRepository.findById(newAccommodation.getId()).orElseThrow();
 
         //then
@@ -0,0 +1,105 @@
+package com.core.miniproject.src.accommodation.service;
+
+import com.core.miniproject.src.accommodation.domain.entity.Accommodation;
+import com.core.miniproject.src.accommodation.repository.AccommodationRepository;
+import com.core.miniproject.src.common.constant.Role;
+import com.core.miniproject.src.common.outbox.OutboxEventRecorder;
+import com.core.miniproject.src.common.security.principal.MemberInfo;
+import com.core.miniproject.src.image.domain.entity.RoomImage;
+import com.core.miniproject.src.image.repository.AccommodationImageRepository;
+import com.core.miniproject.src.image.service.StoredImageService;
+import com.core.miniproject.src.room.domain.entity.Room;
+import com.core.miniproject.src.room.repository.RoomRepository;
+import com.core.miniproject.src.room.service.RoomService;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class AccommodationServiceTest {
+
+    private static final String SHARED_HASH = "shared";
+    private static final String ROOM_HASH = "room";
+
+    @InjectMocks
+    private AccommodationService accommodationService;
+
+    @InjectMocks
+    private RoomService roomService;
+
+    @Mock
+    private AccommodationRepository accommodationRepository;
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @Mock
+    private AccommodationImageRepository imageRepository;
+
+    @Mock
+    private StoredImageService storedImageService;
+
+    @Mock
+    private OutboxEventRecorder outboxEventRecorder;
+
+    @Mock
+    private AccommodationSearchIndex searchIndex;
+
+    MemberInfo memberInfo = new MemberInfo(1L, "string", Role.USER);
+
+    @Test
+    void 삭제된_객실의_이미지는_숙소_삭제_시_다시_해제하지_않음() {
+        // given - 삭제할 객실의 이미지는 다른 숙소 이미지와 같은 내용(참조 2), 남은 객실 이미지는 참조 1
+        Map<String, Integer> refCounts = new HashMap<>(Map.of(SHARED_HASH, 2, ROOM_HASH, 1));
+        BDDMockito.willAnswer(invocation -> refCounts.merge(invocation.getArgument(0), -1, Integer::sum))
+                .given(storedImageService).release(anyString());
+
+        Accommodation accommodation = Accommodation.builder().id(1L).build();
+        Room deletedRoom = createRoom(10L, accommodation, SHARED_HASH);
+        Room room = createRoom(11L, accommodation, ROOM_HASH);
+        accommodation.getRoomId().addAll(Set.of(deletedRoom, room));
+
+        BDDMockito.given(roomRepository.findByAccommodationAndRoomId(1L, 10L)).willReturn(Optional.of(deletedRoom));
+        BDDMockito.willAnswer(invocation -> { // @SQLDelete 로 is_deleted 만 변경 - 숙소의 객실 목록에는 남음
+            ReflectionTestUtils.setField(deletedRoom, "isDeleted", true);
+            return null;
+        }).given(roomRepository).deleteById(10L);
+        BDDMockito.given(accommodationRepository.findByAccommodationId(1L)).willReturn(Optional.of(accommodation));
+
+        // when
+        roomService.deleteRoom(1L, 10L, memberInfo);
+        accommodationService.deleteAccommodation(1L, memberInfo);
+
+        // then - 다른 숙소가 참조 중인 이미지는 참조가 남아 정리 대상 X
+        assertThat(refCounts).containsEntry(SHARED_HASH, 1).containsEntry(ROOM_HASH, 0);
+    }
+
+    private Room createRoom(Long roomId, Accommodation accommodation, String contentHash) {
+        Room room = Room.builder()
+                .id(roomId)
+                .accommodationId(accommodation)
+                .build();
+        ReflectionTestUtils.setField(room, "roomImage", RoomImage.builder()
+                .imagePath("room/" + roomId + ".png")
+                .contentHash(contentHash)
+                .room(room)
+                .build());
+        return room;
+    }
+}
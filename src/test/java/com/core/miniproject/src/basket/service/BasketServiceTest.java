@@ -0,0 +1,149 @@
+package com.core.miniproject.src.basket.service;
+
+import com.core.miniproject.src.accommodation.domain.entity.Accommodation;
+import com.core.miniproject.src.accommodation.domain.entity.Discount;
+import com.core.miniproject.src.accommodation.service.AccommodationSearchCache;
+import com.core.miniproject.src.basket.domain.dto.BasketBulkCreateRequest;
+import com.core.miniproject.src.basket.domain.dto.BasketBulkCreateResponse;
+import com.core.miniproject.src.basket.domain.dto.BasketBulkItemRequest;
+import com.core.miniproject.src.basket.domain.dto.BasketBulkItemResponse;
+import com.core.miniproject.src.basket.repository.BasketRepository;
+import com.core.miniproject.src.common.exception.BaseException;
+import com.core.miniproject.src.common.security.principal.MemberInfo;
+import com.core.miniproject.src.reservation.model.dto.BookedNight;
+import com.core.miniproject.src.reservation.repository.RoomNightRepository;
+import com.core.miniproject.src.reservation.service.RoomAvailabilityIndex;
+import com.core.miniproject.src.room.domain.entity.Room;
+import com.core.miniproject.src.room.repository.RoomRepository;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static com.core.miniproject.src.common.response.BaseResponseStatus.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class BasketServiceTest {
+
+    @Mock
+    private BasketRepository basketRepository;
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @Mock
+    private RoomNightRepository roomNightRepository;
+
+    @Mock
+    private BasketStore basketStore;
+
+    @Mock
+    private RoomAvailabilityIndex availabilityIndex;
+
+    @Mock
+    private RoomHoldStore roomHoldStore;
+
+    @Mock
+    private AccommodationSearchCache searchCache;
+
+    @InjectMocks
+    private BasketService basketService;
+
+    LocalDate checkIn = LocalDate.of(2024, 3, 1);
+
+    @Test
+    void 일괄_담기는_항목별_결과를_요청_순서대로_반환() {
+        // given
+        MemberInfo memberInfo = MemberInfo.builder().id(1L).build();
+        BasketBulkCreateRequest request = new BasketBulkCreateRequest(List.of(
+                new BasketBulkItemRequest(1L, checkIn, checkIn.plusDays(2)),                // 성공
+                new BasketBulkItemRequest(1L, checkIn.plusDays(1), checkIn.plusDays(3)),    // 같은 요청 안에서 중복
+                new BasketBulkItemRequest(2L, checkIn, checkIn.plusDays(1)),                // 이미 예약됨
+                new BasketBulkItemRequest(3L, checkIn, checkIn.plusDays(1)),                // 없는 객실
+                new BasketBulkItemRequest(2L, checkIn.plusDays(1), checkIn)));              // 날짜 오류
+
+        BDDMockito.given(roomRepository.findAllAvailableByIdIn(anyCollection())).willReturn(List.of(createRoom(1L), createRoom(2L)));
+        BDDMockito.given(basketStore.findAll(1L)).willReturn(Optional.of(List.of()));
+        BDDMockito.given(roomNightRepository.findAllBookedNights(anyCollection(), anyCollection()))
+                .willReturn(List.of(new BookedNight(2L, checkIn)));
+        BDDMockito.given(roomHoldStore.hold(anyLong(), any(), any(), anyLong())).willReturn(true);
+        BDDMockito.given(basketStore.nextIds(1)).willReturn(List.of(100L));
+
+        // when
+        BasketBulkCreateResponse response = basketService.registerBaskets(request, memberInfo);
+
+        // then
+        assertThat(response.getSuccessCount()).isEqualTo(1);
+        assertThat(response.getResults())
+                .extracting(BasketBulkItemResponse::getMessage)
+                .containsExactly(SUCCESS.getMessage(), BASKET_IS_DUPLICATE.getMessage(), RESERVATION_IS_DUPLICATE.getMessage(),
+                        ROOM_NOT_FOUND.getMessage(), INVALID_DATE_SETTING.getMessage());
+        assertThat(response.getResults().get(0).getBasket().getId()).isEqualTo(100L);
+        verify(basketStore).addAll(eq(1L), argThat(items -> items.size() == 1 && items.get(0).getId() == 100L));
+    }
+
+    @Test
+    void 일괄_담기_저장_실패_시_선점한_숙박일_해제() {
+        // given
+        MemberInfo memberInfo = MemberInfo.builder().id(1L).build();
+        BasketBulkCreateRequest request = new BasketBulkCreateRequest(List.of(
+                new BasketBulkItemRequest(1L, checkIn, checkIn.plusDays(2))));
+
+        BDDMockito.given(roomRepository.findAllAvailableByIdIn(anyCollection())).willReturn(List.of(createRoom(1L)));
+        BDDMockito.given(basketStore.findAll(1L)).willReturn(Optional.of(List.of()));
+        BDDMockito.given(roomHoldStore.hold(anyLong(), any(), any(), anyLong())).willReturn(true);
+        BDDMockito.given(basketStore.nextIds(1)).willThrow(new RedisConnectionFailureException("Redis 연결 실패"));
+
+        // when & then
+        assertThatThrownBy(() -> basketService.registerBaskets(request, memberInfo))
+                .isInstanceOf(RedisConnectionFailureException.class);
+        verify(roomHoldStore).release(1L, checkIn, checkIn.plusDays(2), 1L);
+    }
+
+    @Test
+    void 일괄_담기_항목_수_초과_시_예외() {
+        // given
+        MemberInfo memberInfo = MemberInfo.builder().id(1L).build();
+        List<BasketBulkItemRequest> items = new ArrayList<>();
+        for (int i = 0; i < 21; i++) {
+            items.add(new BasketBulkItemRequest((long) i, checkIn, checkIn.plusDays(1)));
+        }
+
+        // when & then
+        assertThatThrownBy(() -> basketService.registerBaskets(new BasketBulkCreateRequest(items), memberInfo))
+                .isInstanceOf(BaseException.class)
+                .extracting("status").isEqualTo(BASKET_BULK_LIMIT_EXCEEDED);
+    }
+
+    private Room createRoom(Long roomId) {
+        Accommodation accommodation = Accommodation.builder()
+                .id(10L)
+                .accommodationName("숙소")
+                .address("서울")
+                .discount(Discount.builder().discountRate(0.1).build())
+                .build();
+
+        return Room.builder()
+                .id(roomId)
+                .roomName("객실 " + roomId)
+                .price(100000)
+                .accommodationId(accommodation)
+                .build();
+    }
+}
@@ -0,0 +1,171 @@
+package com.core.miniproject.src.basket.service;
+
+import com.core.miniproject.src.basket.domain.dto.BasketItem;
+import com.core.miniproject.src.basket.domain.entity.Basket;
+import com.core.miniproject.src.basket.repository.BasketRepository;
+import com.core.miniproject.src.basket.service.BasketStore.BasketChanges;
+import com.core.miniproject.src.member.domain.entity.Member;
+import com.core.miniproject.src.member.repository.MemberRepository;
+import com.core.miniproject.src.room.domain.entity.Room;
+import com.core.miniproject.src.room.repository.RoomRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.BDDMockito;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class BasketWriteBehindTest {
+
+    @Mock
+    private BasketStore basketStore;
+
+    @Mock
+    private BasketRepository basketRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BasketWriteBehind basketWriteBehind;
+
+    @BeforeEach
+    void setUp() {
+        basketWriteBehind = new BasketWriteBehind(basketStore, basketRepository, memberRepository, roomRepository, transactionManager);
+        lenient().when(basketStore.tryLockFlush(anyLong(), anyString())).thenReturn(true);
+    }
+
+    @Test
+    void 추가된_장바구니는_일괄_저장_삭제된_장바구니는_일괄_삭제() {
+        BasketChanges changes = new BasketChanges(1L, List.of(createItem(10L), createItem(11L)), List.of(5L));
+        BDDMockito.given(basketStore.popChanges(1L)).willReturn(changes);
+        BDDMockito.given(memberRepository.getReferenceById(1L)).willReturn(Member.builder().id(1L).build());
+        BDDMockito.given(roomRepository.getReferenceById(anyLong())).willReturn(Room.builder().id(3L).build());
+
+        basketWriteBehind.flush(1L);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Basket>> saved = ArgumentCaptor.forClass(List.class);
+        verify(basketRepository).saveAllAndFlush(saved.capture());
+        assertThat(saved.getValue())
+                .extracting(Basket::getId)
+                .containsExactly(10L, 11L);
+        assertThat(saved.getValue()).allMatch(Basket::isNew);
+        verify(basketRepository).deleteAllByIdInBatch(List.of(5L));
+    }
+
+    @Test
+    void 저장_실패_시_변경_내역을_되돌려_재시도() {
+        BasketChanges changes = new BasketChanges(1L, List.of(createItem(10L)), List.of());
+        BDDMockito.given(basketStore.popChanges(1L)).willReturn(changes);
+        BDDMockito.given(basketRepository.saveAllAndFlush(anyList())).willThrow(new QueryTimeoutException("timeout"));
+
+        basketWriteBehind.flush(1L);
+
+        verify(basketStore).restore(changes);
+    }
+
+    @Test
+    void 한_회원의_변경이_제약_조건에_걸리면_그_회원만_제외하고_나머지는_저장() {
+        BasketChanges first = new BasketChanges(1L, List.of(createItem(10L)), List.of());
+        BasketChanges second = new BasketChanges(2L, List.of(createItem(20L)), List.of(7L));
+        BDDMockito.given(basketStore.popDirtyMembers(100)).willReturn(List.of(1L, 2L), List.of());
+        BDDMockito.given(basketStore.popChanges(1L)).willReturn(first);
+        BDDMockito.given(basketStore.popChanges(2L)).willReturn(second);
+        BDDMockito.given(roomRepository.getReferenceById(anyLong())).willReturn(Room.builder().id(3L).build());
+        BDDMockito.given(basketRepository.saveAllAndFlush(anyList())).willAnswer(invocation -> {
+            List<Basket> baskets = invocation.getArgument(0);
+            if (baskets.stream().anyMatch(basket -> basket.getId().equals(20L))) {
+                throw new DataIntegrityViolationException("deleted room");
+            }
+            return baskets;
+        });
+
+        basketWriteBehind.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Basket>> saved = ArgumentCaptor.forClass(List.class);
+        verify(basketRepository, times(3)).saveAllAndFlush(saved.capture());
+        assertThat(saved.getAllValues().get(1))
+                .extracting(Basket::getId)
+                .containsExactly(10L);
+        verify(basketStore, never()).restore(any());
+        verify(basketStore).evict(2L, List.of(20L)); // 저장되지 않은 장바구니는 Redis 에서도 제거
+        verify(basketStore, never()).evict(eq(1L), anyList());
+    }
+
+    @Test
+    void 다른_곳에서_반영_중인_회원은_잠금이_풀릴_때까지_기다린_뒤_반영() {
+        BDDMockito.given(basketStore.tryLockFlush(anyLong(), anyString())).willReturn(false, false, true);
+        BDDMockito.given(basketStore.popChanges(1L)).willReturn(new BasketChanges(1L, List.of(), List.of()));
+
+        basketWriteBehind.flush(1L);
+
+        InOrder inOrder = inOrder(basketStore);
+        inOrder.verify(basketStore, times(3)).tryLockFlush(eq(1L), anyString());
+        inOrder.verify(basketStore).popChanges(1L);
+        inOrder.verify(basketStore).unlockFlush(eq(1L), anyString());
+    }
+
+    @Test
+    void 예약_전환_중인_회원은_주기_반영에서_건너뛰고_다시_표시() {
+        BDDMockito.given(basketStore.popDirtyMembers(100)).willReturn(List.of(1L), List.of());
+        BDDMockito.given(basketStore.tryLockFlush(eq(1L), anyString())).willReturn(false);
+
+        basketWriteBehind.flush();
+
+        verify(basketStore, never()).popChanges(1L);
+        verify(basketStore).markDirty(1L);
+    }
+
+    @Test
+    void 변경_내역이_없으면_저장하지_않음() {
+        BDDMockito.given(basketStore.popChanges(1L)).willReturn(new BasketChanges(1L, List.of(), List.of()));
+
+        basketWriteBehind.flush(1L);
+
+        verify(basketRepository, never()).saveAllAndFlush(anyList());
+    }
+
+    private BasketItem createItem(Long id) {
+        return BasketItem.builder()
+                .id(id)
+                .memberId(1L)
+                .roomId(3L)
+                .roomName("객실 3")
+                .price(100000)
+                .checkIn(LocalDate.of(2024, 3, 1))
+                .checkOut(LocalDate.of(2024, 3, 2))
+                .build();
+    }
+}
@@ -0,0 +1,89 @@
+package com.core.miniproject.src.basket.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class RoomHoldStoreTest {
+
+    private static final LocalDate CHECK_IN = LocalDate.of(2024, 3, 1);
+    private static final LocalDate CHECK_OUT = LocalDate.of(2024, 3, 3);
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    private RoomHoldStore roomHoldStore;
+
+    @BeforeEach
+    void setUp() {
+        roomHoldStore = new RoomHoldStore(stringRedisTemplate);
+    }
+
+    @Test
+    void 숙박일_중_하루라도_다른_회원이_선점하면_선점된_객실() {
+        BDDMockito.given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        BDDMockito.given(valueOperations.multiGet(List.of("room-hold:1:2024-03-01", "room-hold:1:2024-03-02")))
+                .willReturn(Arrays.asList("1", "2"));
+
+        assertThat(roomHoldStore.isHeldByOther(1L, CHECK_IN, CHECK_OUT, 1L)).isTrue();
+    }
+
+    @Test
+    void 본인이_선점한_객실은_선점되지_않은_객실() {
+        BDDMockito.given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        BDDMockito.given(valueOperations.multiGet(List.of("room-hold:1:2024-03-01", "room-hold:1:2024-03-02")))
+                .willReturn(Arrays.asList("1", null));
+
+        assertThat(roomHoldStore.isHeldByOther(1L, CHECK_IN, CHECK_OUT, 1L)).isFalse();
+    }
+
+    @Test
+    void 숙박일별_선점된_객실_id를_합쳐서_반환() {
+        BDDMockito.given(stringRedisTemplate.opsForZSet()).willReturn(zSetOperations);
+        BDDMockito.given(zSetOperations.rangeByScore(eq("room-hold-night:2024-03-01"), anyDouble(), anyDouble()))
+                .willReturn(Set.of("1", "2"));
+        BDDMockito.given(zSetOperations.rangeByScore(eq("room-hold-night:2024-03-02"), anyDouble(), anyDouble()))
+                .willReturn(Set.of("3"));
+
+        assertThat(roomHoldStore.findHeldRoomIds(CHECK_IN, CHECK_OUT)).containsExactlyInAnyOrder(1L, 2L, 3L);
+        verify(zSetOperations).removeRangeByScore(eq("room-hold-night:2024-03-01"), eq(Double.NEGATIVE_INFINITY), anyDouble());
+        verify(zSetOperations).removeRangeByScore(eq("room-hold-night:2024-03-02"), eq(Double.NEGATIVE_INFINITY), anyDouble());
+    }
+
+    @Test
+    void Redis_장애_시_선점되지_않은_것으로_처리() {
+        BDDMockito.given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        BDDMockito.given(valueOperations.multiGet(BDDMockito.anyCollection()))
+                .willThrow(new RedisConnectionFailureException("connection refused"));
+
+        assertThat(roomHoldStore.isHeldByOther(1L, CHECK_IN, CHECK_OUT, 1L)).isFalse();
+    }
+}
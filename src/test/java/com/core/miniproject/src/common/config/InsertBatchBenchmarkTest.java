@@ -0,0 +1,72 @@
+package com.core.miniproject.src.common.config;
+
+import com.core.miniproject.src.image.domain.entity.AccommodationImage;
+import com.core.miniproject.src.image.repository.AccommodationImageRepository;
+import com.core.miniproject.src.member.domain.entity.Member;
+import com.core.miniproject.src.member.repository.MemberRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// IDENTITY id 엔티티(Member)와 시퀀스 id 엔티티(AccommodationImage)의 saveAll INSERT 처리량 비교
+// ./gradlew benchmark 로 실행 (기본 test 태스크에서는 제외)
+@Tag("benchmark")
+@Import(JpaBatchConfig.class)
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class InsertBatchBenchmarkTest {
+
+    private static final int ROW_COUNT = 5_000;
+
+    @Autowired
+    EntityManager em;
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    AccommodationImageRepository imageRepository;
+
+    @Test
+    void IDENTITY_와_시퀀스_INSERT_비교() {
+        List<Member> members = new ArrayList<>();
+        List<AccommodationImage> images = new ArrayList<>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            members.add(Member.builder().email("member" + i + "@test.com").name("회원" + i).build());
+            images.add(AccommodationImage.builder().imagePath("accommodation/" + i + ".png").build());
+        }
+
+        Result identity = measure(() -> memberRepository.saveAll(members));
+        Result sequence = measure(() -> imageRepository.saveAll(images));
+
+        System.out.printf("[identity] %d rows/s, statements : %d%n", identity.rowsPerSecond(), identity.statements());
+        System.out.printf("[sequence] %d rows/s, statements : %d%n", sequence.rowsPerSecond(), sequence.statements());
+
+        // 시퀀스 id는 INSERT 가 배치로 묶이므로 실행되는 문장 수가 행 수보다 훨씬 적음
+        assertThat(sequence.statements()).isLessThan(identity.statements());
+    }
+
+    private Result measure(Runnable insert) {
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        long start = System.nanoTime();
+        insert.run();
+        em.flush();
+        long elapsed = System.nanoTime() - start;
+
+        em.clear();
+
+        return new Result(ROW_COUNT * 1_000_000_000L / Math.max(elapsed, 1), statistics.getPrepareStatementCount());
+    }
+
+    private record Result(long rowsPerSecond, long statements) {
+    }
+}
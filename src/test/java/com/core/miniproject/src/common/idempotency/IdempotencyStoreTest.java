@@ -0,0 +1,115 @@
+package com.core.miniproject.src.common.idempotency;
+
+import com.core.miniproject.src.common.exception.BaseException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.core.miniproject.src.common.response.BaseResponseStatus.IDEMPOTENCY_KEY_REUSED;
+import static com.core.miniproject.src.common.response.BaseResponseStatus.IDEMPOTENCY_REQUEST_IN_PROGRESS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class IdempotencyStoreTest {
+
+    private static final String KEY = "idempotency:reservation-insert:1:key-1";
+    private static final String REQUEST = "객실 1 예약";
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private IdempotencyStore idempotencyStore;
+
+    private final AtomicInteger callCount = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        BDDMockito.given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        idempotencyStore = new IdempotencyStore(stringRedisTemplate, new ObjectMapper());
+    }
+
+    @Test
+    void 처음_요청은_실행_후_응답_저장() {
+        BDDMockito.given(valueOperations.setIfAbsent(eq(KEY), anyString(), any(Duration.class))).willReturn(true);
+
+        String response = execute();
+
+        assertThat(response).isEqualTo("예약 완료");
+        assertThat(callCount).hasValue(1);
+        verify(valueOperations).setIfAbsent(KEY, "IN_PROGRESS:" + fingerprint(REQUEST), Duration.ofSeconds(40));
+        verify(valueOperations).set(eq(KEY), eq("COMPLETED:" + fingerprint(REQUEST) + ":\"예약 완료\""), any(Duration.class));
+    }
+
+    @Test
+    void 완료된_키로_재요청_시_저장된_응답_반환() {
+        BDDMockito.given(valueOperations.get(KEY)).willReturn("COMPLETED:" + fingerprint(REQUEST) + ":\"예약 완료\"");
+
+        String response = execute();
+
+        assertThat(response).isEqualTo("예약 완료");
+        assertThat(callCount).hasValue(0);
+    }
+
+    @Test
+    void 처리_중인_키로_재요청_시_예외() {
+        BDDMockito.given(valueOperations.get(KEY)).willReturn("IN_PROGRESS:" + fingerprint(REQUEST));
+        BDDMockito.given(valueOperations.setIfAbsent(eq(KEY), anyString(), any(Duration.class))).willReturn(false);
+
+        assertThatThrownBy(this::execute)
+                .isInstanceOf(BaseException.class)
+                .extracting("status").isEqualTo(IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        assertThat(callCount).hasValue(0);
+    }
+
+    @Test
+    void 같은_키로_다른_요청_시_예외() {
+        BDDMockito.given(valueOperations.get(KEY)).willReturn("COMPLETED:" + fingerprint("객실 2 예약") + ":\"예약 완료\"");
+
+        assertThatThrownBy(this::execute)
+                .isInstanceOf(BaseException.class)
+                .extracting("status").isEqualTo(IDEMPOTENCY_KEY_REUSED);
+        assertThat(callCount).hasValue(0);
+    }
+
+    private String execute() {
+        return idempotencyStore.execute("reservation-insert", 1L, "key-1", REQUEST, Duration.ofSeconds(10),
+                new TypeReference<String>() {},
+                () -> {
+                    callCount.incrementAndGet();
+                    return "예약 완료";
+                });
+    }
+
+    private static String fingerprint(String request) {
+        try {
+            byte[] body = new ObjectMapper().writeValueAsBytes(request);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
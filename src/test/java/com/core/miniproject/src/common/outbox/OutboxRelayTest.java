@@ -0,0 +1,157 @@
+package com.core.miniproject.src.common.outbox;
+
+import com.core.miniproject.src.common.entity.OutboxEvent;
+import com.core.miniproject.src.common.repository.OutboxEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class OutboxRelayTest {
+
+    private static final String PAYLOAD = "{\"accommodationId\":1,\"locationType\":\"SEOUL\",\"accommodationType\":\"HOTEL\"}";
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Long> received = new ArrayList<>();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        BDDMockito.given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        BDDMockito.given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(true);
+
+        DomainEventListener listener = new DomainEventListener() {
+            @Override
+            public boolean supports(DomainEventType type) {
+                return true;
+            }
+
+            @Override
+            public void onEvent(DomainEvent event) {
+                if (event.eventId() == 1L) {
+                    throw new IllegalStateException("캐시 삭제 실패");
+                }
+                received.add(event.eventId());
+            }
+        };
+
+        outboxRelay = new OutboxRelay(outboxEventRepository, List.of(listener), stringRedisTemplate,
+                new ObjectMapper().findAndRegisterModules(), transactionManager, meterRegistry);
+    }
+
+    @Test
+    void 실패한_이벤트와_같은_집계의_이후_이벤트는_보류() {
+        BDDMockito.given(outboxEventRepository.findUnpublished(anyInt(), any(LocalDateTime.class), any())).willReturn(List.of(
+                createEvent(1L, 10L),
+                createEvent(2L, 10L),   // 1번과 같은 객실 - 보류
+                createEvent(3L, 20L))); // 다른 객실 - 전달
+
+        outboxRelay.relay();
+
+        assertThat(received).containsExactly(3L);
+        verify(outboxEventRepository).markPublished(eq(List.of(3L)), any(LocalDateTime.class));
+        verify(outboxEventRepository).increaseAttempts(eq(List.of(1L)), any(LocalDateTime.class));
+    }
+
+    @Test
+    void 모두_전달되면_실패_처리_없음() {
+        BDDMockito.given(outboxEventRepository.findUnpublished(anyInt(), any(LocalDateTime.class), any())).willReturn(List.of(
+                createEvent(2L, 10L),
+                createEvent(3L, 10L)));
+
+        outboxRelay.relay();
+
+        assertThat(received).containsExactly(2L, 3L);
+        verify(outboxEventRepository, never()).increaseAttempts(any(), any());
+    }
+
+    @Test
+    void 실패한_이벤트는_시도_횟수에_따라_재전달_시각을_미룸() {
+        BDDMockito.given(outboxEventRepository.findUnpublished(anyInt(), any(LocalDateTime.class), any())).willReturn(List.of(
+                createEvent(1L, 10L, 3)));
+        LocalDateTime before = LocalDateTime.now();
+
+        outboxRelay.relay();
+
+        ArgumentCaptor<LocalDateTime> nextAttemptAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(outboxEventRepository).increaseAttempts(eq(List.of(1L)), nextAttemptAt.capture());
+        assertThat(nextAttemptAt.getValue()).isAfterOrEqualTo(before.plusSeconds(8)); // 1초 * 2^3
+    }
+
+    @Test
+    void 재시도_한도에_도달한_이벤트는_버림_지표_증가() {
+        BDDMockito.given(outboxEventRepository.findUnpublished(anyInt(), any(LocalDateTime.class), any())).willReturn(List.of(
+                createEvent(1L, 10L, 19)));
+
+        outboxRelay.relay();
+
+        assertThat(meterRegistry.counter("outbox.events", "result", "dropped").count()).isEqualTo(1);
+    }
+
+    @Test
+    void Redis_장애로_잠금을_얻지_못하면_전달하지_않음() {
+        BDDMockito.given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .willThrow(new RedisConnectionFailureException("Redis 연결 실패"));
+
+        outboxRelay.relay();
+
+        verify(outboxEventRepository, never()).findUnpublished(anyInt(), any(LocalDateTime.class), any());
+    }
+
+    private OutboxEvent createEvent(Long id, Long roomId) {
+        return createEvent(id, roomId, 0);
+    }
+
+    private OutboxEvent createEvent(Long id, Long roomId, int attempts) {
+        return OutboxEvent.builder()
+                .id(id)
+                .attempts(attempts)
+                .aggregateType(DomainEventType.ROOM_UPDATED.getAggregateType())
+                .aggregateId(roomId)
+                .eventType(DomainEventType.ROOM_UPDATED)
+                .payload(PAYLOAD)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,57 @@
+package com.core.miniproject.src.common.util;
+
+import com.core.miniproject.src.image.domain.entity.ImageSize;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ImageResizerTest {
+
+    @Test
+    void 최대_너비에_맞춰_비율을_유지하며_축소() {
+        BufferedImage source = new BufferedImage(1600, 1200, BufferedImage.TYPE_INT_ARGB);
+
+        BufferedImage resized = ImageResizer.resize(source, ImageSize.THUMBNAIL.getWidth());
+
+        assertThat(resized.getWidth()).isEqualTo(320);
+        assertThat(resized.getHeight()).isEqualTo(240);
+    }
+
+    @Test
+    void 최대_너비보다_작은_이미지는_확대하지_않음() {
+        BufferedImage source = new BufferedImage(200, 100, BufferedImage.TYPE_INT_RGB);
+
+        BufferedImage resized = ImageResizer.resize(source, ImageSize.MEDIUM.getWidth());
+
+        assertThat(resized.getWidth()).isEqualTo(200);
+        assertThat(resized.getHeight()).isEqualTo(100);
+    }
+
+    @Test
+    void 인코딩한_축소_이미지는_원본보다_작고_다시_읽을_수_있음() throws Exception {
+        BufferedImage source = new BufferedImage(1600, 1200, BufferedImage.TYPE_INT_RGB);
+        byte[] original = ImageResizer.encode(source);
+
+        byte[] thumbnail = ImageResizer.encode(ImageResizer.resize(source, ImageSize.THUMBNAIL.getWidth()));
+
+        assertThat(thumbnail.length).isLessThan(original.length);
+        if ("jpg".equals(ImageResizer.FORMAT)) {
+            assertThat(ImageIO.read(new ByteArrayInputStream(thumbnail)).getWidth()).isEqualTo(320);
+        }
+    }
+
+    @Test
+    void 축소_이미지가_없으면_원본_경로로_응답() {
+        assertThat(ImageSize.THUMBNAIL.select("a.jpg", "a_medium.jpg", null)).isEqualTo("a.jpg");
+        assertThat(ImageSize.MEDIUM.select("a.jpg", "a_medium.jpg", null)).isEqualTo("a_medium.jpg");
+        assertThat(ImageSize.ORIGINAL.select("a.jpg", "a_medium.jpg", "a_thumbnail.jpg")).isEqualTo("a.jpg");
+    }
+}
@@ -0,0 +1,183 @@
+package com.core.miniproject.src.common.util;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.core.miniproject.src.image.domain.entity.StoredImage;
+import com.core.miniproject.src.image.repository.StoredImageRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.net.URL;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class S3ImageUploaderTest {
+
+    @Mock
+    private AmazonS3Client amazonS3Client;
+
+    @Mock
+    private StoredImageRepository storedImageRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private S3ImageUploader s3ImageUploader;
+
+    @BeforeEach
+    void setUp() {
+        s3ImageUploader = new S3ImageUploader(amazonS3Client, storedImageRepository, meterRegistry);
+        ReflectionTestUtils.setField(s3ImageUploader, "bucket", "bucket");
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3ImageUploader.shutdown();
+    }
+
+    @Test
+    void 작은_이미지는_임시_파일_없이_스트림으로_한번에_업로드() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("image", "room.jpg", "image/jpeg", new byte[1024]);
+        givenUrl();
+
+        String url = s3ImageUploader.upload(file);
+
+        ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        BDDMockito.then(amazonS3Client).should().putObject(captor.capture());
+
+        PutObjectRequest request = captor.getValue();
+        assertThat(request.getFile()).isNull();
+        assertThat(request.getInputStream()).isNotNull();
+        assertThat(request.getMetadata().getContentLength()).isEqualTo(1024);
+        assertThat(request.getMetadata().getContentType()).isEqualTo("image/jpeg");
+        assertThat(request.getKey()).isEqualTo("images/" + sha256(new byte[1024]));
+        assertThat(url).endsWith(request.getKey());
+    }
+
+    @Test
+    void 업로드한_이미지는_참조_없는_이미지로_등록() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("image", "room.jpg", "image/jpeg", new byte[16]);
+        givenUrl();
+
+        s3ImageUploader.upload(file);
+
+        ArgumentCaptor<StoredImage> captor = ArgumentCaptor.forClass(StoredImage.class);
+        BDDMockito.then(storedImageRepository).should().save(captor.capture());
+        assertThat(captor.getValue().getContentHash()).isEqualTo(sha256(new byte[16]));
+        assertThat(captor.getValue().getImageKey()).isEqualTo("images/" + sha256(new byte[16]));
+        assertThat(captor.getValue().getRefCount()).isZero();
+    }
+
+    @Test
+    void 이미_저장된_이미지는_전송하지_않고_같은_url_반환() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("image", "other-name.png", "image/png", new byte[16]);
+        givenUrl();
+        BDDMockito.given(storedImageRepository.existsById(sha256(new byte[16]))).willReturn(true);
+
+        String url = s3ImageUploader.upload(file);
+
+        assertThat(url).isEqualTo("https://bucket.s3.amazonaws.com/images/" + sha256(new byte[16]));
+        BDDMockito.then(amazonS3Client).should(never()).putObject(any(PutObjectRequest.class));
+        BDDMockito.then(storedImageRepository).should(never()).save(any());
+        assertThat(meterRegistry.get("image.upload.deduplicated").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 여러_장을_동시에_올려도_요청_순서대로_url_반환() throws Exception {
+        byte[] a = {1}, b = {2}, c = {3};
+        List<MultipartFile> files = List.of(
+                new MockMultipartFile("image", "a.jpg", "image/jpeg", a),
+                new MockMultipartFile("image", "b.png", "image/png", b),
+                new MockMultipartFile("image", "c.gif", "image/gif", c));
+        givenUrl();
+
+        List<String> urls = s3ImageUploader.uploadAll(files);
+
+        assertThat(urls).hasSize(3);
+        assertThat(urls.get(0)).endsWith(sha256(a));
+        assertThat(urls.get(1)).endsWith(sha256(b));
+        assertThat(urls.get(2)).endsWith(sha256(c));
+        assertThat(meterRegistry.get("image.upload.duration").tag("result", "success").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    void 한_장이라도_실패하면_올라간_이미지를_직접_삭제하지_않고_정리_대상으로_등록한_뒤_예외() {
+        byte[] failed = new byte[32];
+        List<MultipartFile> files = List.of(
+                new MockMultipartFile("image", "a.jpg", "image/jpeg", new byte[16]),
+                new MockMultipartFile("image", "b.jpg", "image/jpeg", failed));
+        BDDMockito.given(amazonS3Client.putObject(any(PutObjectRequest.class)))
+                .willAnswer(invocation -> {
+                    PutObjectRequest request = invocation.getArgument(0);
+                    if (request.getMetadata().getContentLength() == 32) {
+                        throw new AmazonServiceException("upload failed");
+                    }
+                    return new PutObjectResult();
+                });
+        BDDMockito.lenient().when(amazonS3Client.getUrl(eq("bucket"), anyString()))
+                .thenAnswer(invocation -> new URL("https://bucket.s3.amazonaws.com/" + invocation.getArgument(1)));
+
+        assertThatThrownBy(() -> s3ImageUploader.uploadAll(files))
+                .isInstanceOf(AmazonServiceException.class);
+
+        // 같은 이미지를 다른 요청이 참조할 수 있으므로 S3 객체는 참조 수 기반 정리(StoredImageCollector)에 맡김
+        BDDMockito.then(amazonS3Client).should(never()).deleteObjects(any(DeleteObjectsRequest.class));
+
+        ArgumentCaptor<StoredImage> captor = ArgumentCaptor.forClass(StoredImage.class);
+        BDDMockito.then(storedImageRepository).should(atLeastOnce()).save(captor.capture());
+        assertThat(captor.getAllValues())
+                .allMatch(image -> image.getRefCount() == 0)
+                .extracting(StoredImage::getContentHash)
+                .contains(sha256(failed));
+    }
+
+    @Test
+    void 해시_키로_저장된_이미지의_url_에서만_내용_해시를_찾음() {
+        String hash = sha256(new byte[16]);
+
+        assertThat(s3ImageUploader.contentHashOf("https://bucket.s3.ap-northeast-2.amazonaws.com/images/" + hash))
+                .isEqualTo(hash);
+        assertThat(s3ImageUploader.contentHashOf("https://bucket.s3.ap-northeast-2.amazonaws.com/images/a.jpg")).isNull();
+        assertThat(s3ImageUploader.contentHashOf("")).isNull();
+    }
+
+    private void givenUrl() throws Exception {
+        BDDMockito.given(amazonS3Client.getUrl(eq("bucket"), anyString()))
+                .willAnswer(invocation -> new URL("https://bucket.s3.amazonaws.com/" + invocation.getArgument(1)));
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.core.miniproject.src.reservation.repository;
+
+import com.core.miniproject.src.common.constant.IsVisited;
+import com.core.miniproject.src.member.domain.entity.Member;
+import com.core.miniproject.src.reservation.model.dto.ReservationHistoryId;
+import com.core.miniproject.src.reservation.model.entity.Reservation;
+import com.core.miniproject.src.reservation.model.entity.ReservationArchive;
+import com.core.miniproject.src.room.domain.entity.Room;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class ReservationArchiveRepositoryTest {
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReservationArchiveRepository archiveRepository;
+
+    @Autowired
+    private RoomNightRepository roomNightRepository;
+
+    @Test
+    void 이용이_끝난_예약만_보관_대상으로_조회() {
+        // given
+        LocalDate today = LocalDate.now();
+        Reservation finished = reservationRepository.saveAndFlush(createReservation(today.minusDays(3), today.minusDays(1), IsVisited.OVERDUE));
+        reservationRepository.saveAndFlush(createReservation(today.plusDays(1), today.plusDays(2), IsVisited.NOT_VISIT));
+
+        // when
+        List<Long> ids = reservationRepository.findFinishedIds(today, List.of(IsVisited.VISITED, IsVisited.OVERDUE), PageRequest.of(0, 10));
+
+        // then
+        assertThat(ids).containsExactly(finished.getId());
+    }
+
+    @Test
+    void 보관된_예약도_회원_예약_내역에_함께_조회() {
+        // given
+        LocalDate today = LocalDate.now();
+        Reservation finished = reservationRepository.saveAndFlush(createReservation(today.minusDays(3), today.minusDays(1), IsVisited.OVERDUE));
+        Reservation upcoming = reservationRepository.saveAndFlush(createReservation(today.plusDays(1), today.plusDays(2), IsVisited.NOT_VISIT));
+
+        // when
+        archiveRepository.archive(List.of(finished.getId()), today);
+        roomNightRepository.deleteAllByReservationIdIn(List.of(finished.getId()));
+        reservationRepository.deleteAllByIdInBatch(List.of(finished.getId()));
+
+        Page<ReservationHistoryId> history = reservationRepository.findAllReservationIds(1L, PageRequest.of(0, 10));
+
+        // then
+        assertThat(reservationRepository.findById(finished.getId())).isEmpty();
+        assertThat(archiveRepository.findById(finished.getId()))
+                .get()
+                .extracting(ReservationArchive::getIsVisited)
+                .isEqualTo(IsVisited.OVERDUE);
+
+        assertThat(history.getTotalElements()).isEqualTo(2);
+        assertThat(history.getContent())
+                .extracting(ReservationHistoryId::getId, ReservationHistoryId::isArchived)
+                .containsExactly(tuple(upcoming.getId(), false), tuple(finished.getId(), true));
+    }
+
+    private Reservation createReservation(LocalDate checkIn, LocalDate checkOut, IsVisited isVisited) {
+        Reservation reservation = Reservation.builder()
+                .roomName("객실 1")
+                .checkIn(checkIn)
+                .checkOut(checkOut)
+                .price(200000)
+                .fixedNumber(2)
+                .maxedNumber(4)
+                .isVisited(isVisited)
+                .member(Member.builder().id(1L).build())
+                .room(Room.builder().id(1L).build())
+                .build();
+        reservation.assignNights();
+
+        return reservation;
+    }
+}
@@ -0,0 +1,72 @@
+package com.core.miniproject.src.reservation.repository;
+
+import com.core.miniproject.src.common.constant.IsVisited;
+import com.core.miniproject.src.member.domain.entity.Member;
+import com.core.miniproject.src.reservation.model.entity.Reservation;
+import com.core.miniproject.src.room.domain.entity.Room;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class RoomNightRepositoryTest {
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private RoomNightRepository roomNightRepository;
+
+    @Test
+    void 예약_저장_시_숙박일도_함께_저장() {
+        // given
+        LocalDate checkIn = LocalDate.now();
+        Reservation reservation = createReservation(checkIn, checkIn.plusDays(2));
+
+        // when
+        reservationRepository.saveAndFlush(reservation);
+
+        // then
+        assertThat(roomNightRepository.count()).isEqualTo(2);
+        assertThat(roomNightRepository.existsByRoomIdAndNightIn(1L, List.of(checkIn.plusDays(1)))).isTrue();
+        assertThat(roomNightRepository.existsByRoomIdAndNightIn(1L, List.of(checkIn.plusDays(2)))).isFalse();
+    }
+
+    @Test
+    void 같은_객실_같은_숙박일_예약은_저장_실패() {
+        // given
+        LocalDate checkIn = LocalDate.now();
+        reservationRepository.saveAndFlush(createReservation(checkIn, checkIn.plusDays(2)));
+
+        // when & then
+        assertThatThrownBy(() -> reservationRepository.saveAndFlush(createReservation(checkIn.plusDays(1), checkIn.plusDays(3))))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private Reservation createReservation(LocalDate checkIn, LocalDate checkOut) {
+        Reservation reservation = Reservation.builder()
+                .roomName("객실 1")
+                .checkIn(checkIn)
+                .checkOut(checkOut)
+                .price(200000)
+                .fixedNumber(2)
+                .maxedNumber(4)
+                .isVisited(IsVisited.NOT_VISIT)
+                .member(Member.builder().id(1L).build())
+                .room(Room.builder().id(1L).build())
+                .build();
+        reservation.assignNights();
+
+        return reservation;
+    }
+}
@@ -0,0 +1,77 @@
+package com.core.miniproject.src.reservation.service;
+
+import com.core.miniproject.src.reservation.model.dto.ReservedPeriod;
+import com.core.miniproject.src.reservation.repository.ReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class RoomAvailabilityIndexTest {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    private RoomAvailabilityIndex availabilityIndex;
+
+    LocalDate today = LocalDate.now();
+
+    @BeforeEach
+    void setUp() {
+        BDDMockito.given(reservationRepository.findAllReservedPeriod(any()))
+                .willReturn(List.of(
+                        new ReservedPeriod(1L, today.plusDays(1), today.plusDays(3)),
+                        new ReservedPeriod(2L, today.plusDays(5), today.plusDays(6))));
+
+        availabilityIndex = new RoomAvailabilityIndex(reservationRepository);
+        availabilityIndex.load();
+    }
+
+    @Test
+    void 기간이_겹치는_객실만_예약된_객실로_조회() {
+        assertThat(availabilityIndex.findBookedRoomIds(today, today.plusDays(2))).containsExactly(1L);
+        assertThat(availabilityIndex.findBookedRoomIds(today.plusDays(2), today.plusDays(6))).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void 퇴실일과_입실일이_같으면_예약_가능() {
+        assertThat(availabilityIndex.isAvailable(1L, today.plusDays(3), today.plusDays(4))).isTrue();
+        assertThat(availabilityIndex.isAvailable(1L, today, today.plusDays(1))).isTrue();
+        assertThat(availabilityIndex.isAvailable(1L, today, today.plusDays(2))).isFalse();
+    }
+
+    @Test
+    void 트랜잭션_밖에서_예약_반영과_해제() {
+        availabilityIndex.occupy(3L, today, today.plusDays(2));
+        assertThat(availabilityIndex.isAvailable(3L, today.plusDays(1), today.plusDays(2))).isFalse();
+
+        availabilityIndex.release(3L, today, today.plusDays(2));
+        assertThat(availabilityIndex.isAvailable(3L, today.plusDays(1), today.plusDays(2))).isTrue();
+    }
+
+    @Test
+    void 재적재_중에_반영된_예약은_새로_적재한_인덱스에도_유지() {
+        BDDMockito.given(reservationRepository.findAllReservedPeriod(any())).willAnswer(invocation -> {
+            availabilityIndex.occupy(4L, today, today.plusDays(2)); // DB 조회 이후 커밋된 예약
+            return List.of(new ReservedPeriod(1L, today.plusDays(1), today.plusDays(3)));
+        });
+
+        availabilityIndex.reload();
+
+        assertThat(availabilityIndex.isAvailable(4L, today, today.plusDays(1))).isFalse();
+        assertThat(availabilityIndex.isAvailable(1L, today, today.plusDays(2))).isFalse();
+    }
+}
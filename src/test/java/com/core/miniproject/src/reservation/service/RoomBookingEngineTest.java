@@ -0,0 +1,109 @@
+package com.core.miniproject.src.reservation.service;
+
+import com.core.miniproject.src.common.constant.IsVisited;
+import com.core.miniproject.src.common.exception.BaseException;
+import com.core.miniproject.src.common.outbox.OutboxEventRecorder;
+import com.core.miniproject.src.member.domain.entity.Member;
+import com.core.miniproject.src.reservation.model.entity.Reservation;
+import com.core.miniproject.src.reservation.repository.ReservationRepository;
+import com.core.miniproject.src.room.domain.entity.Room;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class RoomBookingEngineTest {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private OutboxEventRecorder outboxEventRecorder;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private RoomBookingEngine bookingEngine;
+
+    LocalDate today = LocalDate.now();
+
+    @BeforeEach
+    void setUp() {
+        BDDMockito.given(reservationRepository.saveAllAndFlush(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+        RoomAvailabilityIndex availabilityIndex = new RoomAvailabilityIndex(reservationRepository);
+        bookingEngine = new RoomBookingEngine(reservationRepository, availabilityIndex, outboxEventRecorder, transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookingEngine.shutdown();
+    }
+
+    @Test
+    void 같은_객실_겹치는_기간은_먼저_접수된_요청만_예약() {
+        List<CompletableFuture<Reservation>> bookings = List.of(
+                bookingEngine.book(createReservation(1L, today, today.plusDays(2))).future(),
+                bookingEngine.book(createReservation(1L, today.plusDays(1), today.plusDays(3))).future(),
+                bookingEngine.book(createReservation(2L, today, today.plusDays(2))).future());
+
+        assertThat(bookings.get(0).join()).isNotNull();
+        assertThat(bookings.get(1)).failsWithin(Duration.ofSeconds(5))
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(BaseException.class);
+        assertThat(bookings.get(2).join()).isNotNull(); // 다른 객실은 영향 없음
+    }
+
+    @Test
+    void 퇴실일에_입실하는_예약은_가능() {
+        Reservation first = bookingEngine.book(createReservation(1L, today, today.plusDays(2))).future().join();
+        Reservation second = bookingEngine.book(createReservation(1L, today.plusDays(2), today.plusDays(3))).future().join();
+
+        assertThat(first).isNotNull();
+        assertThat(second).isNotNull();
+    }
+
+    @Test
+    void 처리가_시작된_요청은_취소할_수_없고_저장_결과로_완료() {
+        RoomBookingEngine.Booking booking = bookingEngine.book(createReservation(1L, today, today.plusDays(2)));
+        Reservation saved = booking.future().join();
+
+        assertThat(booking.cancel()).isFalse();
+        assertThat(booking.future().join()).isSameAs(saved);
+    }
+
+    private Reservation createReservation(Long roomId, LocalDate checkIn, LocalDate checkOut) {
+        Reservation reservation = Reservation.builder()
+                .roomName("객실 " + roomId)
+                .checkIn(checkIn)
+                .checkOut(checkOut)
+                .price(200000)
+                .fixedNumber(2)
+                .maxedNumber(4)
+                .isVisited(IsVisited.NOT_VISIT)
+                .member(Member.builder().id(1L).build())
+                .room(Room.builder().id(roomId).build())
+                .build();
+        reservation.assignNights();
+
+        return reservation;
+    }
+}